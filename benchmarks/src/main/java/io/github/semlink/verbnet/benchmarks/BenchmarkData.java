@@ -0,0 +1,91 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Locations of the VerbNet data used by the benchmarks, configurable through system properties.
+ *
+ * @author jgung
+ */
+public final class BenchmarkData {
+
+    /**
+     * System property giving a directory of VerbNet class XML files.
+     */
+    public static final String VERBNET_DIR_PROPERTY = "verbnet.dir";
+    /**
+     * System property giving a single VerbNet XML file containing multiple classes.
+     */
+    public static final String VERBNET_XML_PROPERTY = "verbnet.xml";
+    /**
+     * System property giving the directory under which generated synthetic VerbNet data is cached.
+     */
+    public static final String SYNTHETIC_DIR_PROPERTY = "synthetic.dir";
+
+    private static final String DEFAULT_VERBNET_DIR = "../src/test/resources/test-verbnet";
+    private static final String DEFAULT_VERBNET_XML = "../src/test/resources/test-verbnet.xml";
+    private static final String DEFAULT_SYNTHETIC_DIR = "target/synthetic";
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Return the directory of VerbNet class XML files to benchmark against.
+     */
+    public static Path directory() {
+        return Paths.get(System.getProperty(VERBNET_DIR_PROPERTY, DEFAULT_VERBNET_DIR)).toAbsolutePath();
+    }
+
+    /**
+     * Return the single VerbNet XML file to benchmark against.
+     */
+    public static Path singleFile() {
+        return Paths.get(System.getProperty(VERBNET_XML_PROPERTY, DEFAULT_VERBNET_XML)).toAbsolutePath();
+    }
+
+    /**
+     * Return the directory under which generated synthetic VerbNet data is cached.
+     */
+    public static Path syntheticRoot() {
+        return Paths.get(System.getProperty(SYNTHETIC_DIR_PROPERTY, DEFAULT_SYNTHETIC_DIR)).toAbsolutePath();
+    }
+
+    /**
+     * Return a directory of synthetic VerbNet XML files {@link SyntheticVerbNet#scaled(int) scaled} by the given factor,
+     * generating it if it has not already been generated.
+     */
+    public static Path synthetic(int scale) {
+        Path directory = syntheticRoot().resolve("scale-" + scale);
+        Path complete = directory.resolve(".complete");
+        try {
+            if (!Files.exists(complete)) {
+                SyntheticVerbNet.scaled(scale).writeDirectory(directory);
+                Files.createFile(complete);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return directory;
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * Runs the VerbNet benchmarks once per configured thread count with the GC/allocation profiler enabled, writing one
+ * JSON result file per thread count, e.g. {@code target/jmh/<label>-t1.json}. Results from different commits can be
+ * compared by running with a different {@code benchmark.label}.
+ * <p>
+ * Configured through system properties:
+ * <ul>
+ * <li>{@code benchmark.include}: regex of benchmarks to run (default: all)</li>
+ * <li>{@code benchmark.threads}: comma-separated thread counts (default: 1 and the number of available processors)</li>
+ * <li>{@code benchmark.output}: directory for JSON results (default: target/jmh)</li>
+ * <li>{@code benchmark.label}: prefix for JSON result files, e.g. a commit hash (default: current)</li>
+ * <li>{@code verbnet.dir}, {@code verbnet.xml}, {@code synthetic.dir}: VerbNet data to benchmark against, see
+ * {@link BenchmarkData}</li>
+ * </ul>
+ *
+ * @author jgung
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        String include = System.getProperty("benchmark.include", BenchmarkRunner.class.getPackage().getName() + ".*");
+        String threads = System.getProperty("benchmark.threads", "1," + Runtime.getRuntime().availableProcessors());
+        Path output = Paths.get(System.getProperty("benchmark.output", "target/jmh"));
+        String label = System.getProperty("benchmark.label", "current");
+        Files.createDirectories(output);
+
+        int[] threadCounts = Arrays.stream(threads.split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .distinct()
+                .toArray();
+        for (int threadCount : threadCounts) {
+            Options options = new OptionsBuilder()
+                    .include(include)
+                    .threads(threadCount)
+                    .addProfiler(GCProfiler.class)
+                    .jvmArgsAppend(
+                            "-D" + BenchmarkData.VERBNET_DIR_PROPERTY + "=" + BenchmarkData.directory(),
+                            "-D" + BenchmarkData.VERBNET_XML_PROPERTY + "=" + BenchmarkData.singleFile(),
+                            "-D" + BenchmarkData.SYNTHETIC_DIR_PROPERTY + "=" + BenchmarkData.syntheticRoot())
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(output.resolve(label + "-t" + threadCount + ".json").toString())
+                    .build();
+            new Runner(options).run();
+        }
+    }
+
+}
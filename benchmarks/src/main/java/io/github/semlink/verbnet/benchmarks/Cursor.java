@@ -0,0 +1,42 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.benchmarks;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Per-thread cursor used to cycle through benchmark inputs, so that each thread visits every input without contention.
+ *
+ * @author jgung
+ */
+@State(Scope.Thread)
+public class Cursor {
+
+    private int position;
+
+    /**
+     * Return the next position in [0, size).
+     */
+    public int next(int size) {
+        if (++position >= size) {
+            position = 0;
+        }
+        return position;
+    }
+
+}
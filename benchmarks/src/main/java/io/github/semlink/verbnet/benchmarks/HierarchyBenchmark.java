@@ -0,0 +1,78 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.github.semlink.verbnet.VnClass;
+import io.github.semlink.verbnet.VnFrame;
+import io.github.semlink.verbnet.xml.VerbNetXmlFactory;
+
+/**
+ * Benchmarks for {@link VnClass} hierarchy traversal, cycling through every class.
+ *
+ * @author jgung
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class HierarchyBenchmark {
+
+    private VnClass[] classes;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<VnClass> classes = new ArrayList<>();
+        for (VnClass root : VerbNetXmlFactory.readFromDirectory(BenchmarkData.directory())) {
+            classes.addAll(root.descendants(true));
+        }
+        this.classes = classes.toArray(new VnClass[0]);
+    }
+
+    @Benchmark
+    public List<VnClass> descendants(Cursor cursor) {
+        return classes[cursor.next(classes.length)].descendants();
+    }
+
+    @Benchmark
+    public List<VnClass> ancestors(Cursor cursor) {
+        return classes[cursor.next(classes.length)].ancestors();
+    }
+
+    @Benchmark
+    public List<VnFrame> framesIncludeInherited(Cursor cursor) {
+        return classes[cursor.next(classes.length)].framesIncludeInherited();
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.github.semlink.verbnet.DefaultVnIndex;
+import io.github.semlink.verbnet.VnClass;
+import io.github.semlink.verbnet.VnIndex;
+import io.github.semlink.verbnet.xml.VerbNetXmlFactory;
+
+/**
+ * Benchmarks for reading VerbNet XML and constructing a {@link DefaultVnIndex}.
+ *
+ * @author jgung
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LoadBenchmark {
+
+    private byte[] singleFile;
+    private List<VnClass> classes;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        singleFile = Files.readAllBytes(BenchmarkData.singleFile());
+        classes = VerbNetXmlFactory.readFromDirectory(BenchmarkData.directory());
+    }
+
+    @Benchmark
+    public List<VnClass> readFromDirectory() {
+        return VerbNetXmlFactory.readFromDirectory(BenchmarkData.directory());
+    }
+
+    @Benchmark
+    public List<VnClass> readVerbNet() {
+        return VerbNetXmlFactory.readVerbNet(new ByteArrayInputStream(singleFile));
+    }
+
+    @Benchmark
+    public VnIndex buildIndex() {
+        return new DefaultVnIndex(classes);
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import io.github.semlink.verbnet.DefaultVnIndex;
+import io.github.semlink.verbnet.VnClass;
+import io.github.semlink.verbnet.VnIndex;
+import io.github.semlink.verbnet.VnMember;
+import io.github.semlink.verbnet.WnKey;
+import io.github.semlink.verbnet.xml.VerbNetXmlFactory;
+
+/**
+ * Benchmarks for {@link VnIndex} lookups, cycling through every ID, lemma and {@link WnKey} present in the index.
+ *
+ * @author jgung
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LookupBenchmark {
+
+    private VnIndex index;
+    private String[] ids;
+    private String[] baseIds;
+    private String[] lemmas;
+    private WnKey[] wnKeys;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        index = new DefaultVnIndex(VerbNetXmlFactory.readFromDirectory(BenchmarkData.directory()));
+        List<String> ids = new ArrayList<>();
+        List<String> baseIds = new ArrayList<>();
+        List<String> lemmas = new ArrayList<>();
+        List<WnKey> wnKeys = new ArrayList<>();
+        for (VnClass root : index.roots()) {
+            for (VnClass cls : root.descendants(true)) {
+                ids.add(cls.verbNetId().toString());
+                for (VnMember member : cls.members()) {
+                    baseIds.add(cls.verbNetId().rootId());
+                    lemmas.add(member.name());
+                    wnKeys.addAll(member.wn());
+                }
+            }
+        }
+        this.ids = ids.toArray(new String[0]);
+        this.baseIds = baseIds.toArray(new String[0]);
+        this.lemmas = lemmas.toArray(new String[0]);
+        this.wnKeys = wnKeys.toArray(new WnKey[0]);
+    }
+
+    @Benchmark
+    public VnClass getById(Cursor cursor) {
+        return index.getById(ids[cursor.next(ids.length)]);
+    }
+
+    @Benchmark
+    public Set<VnClass> getByLemma(Cursor cursor) {
+        return index.getByLemma(lemmas[cursor.next(lemmas.length)]);
+    }
+
+    @Benchmark
+    public Set<VnClass> getByBaseIdAndLemma(Cursor cursor) {
+        int position = cursor.next(lemmas.length);
+        return index.getByBaseIdAndLemma(baseIds[position], lemmas[position]);
+    }
+
+    @Benchmark
+    public Set<VnMember> getMembersByWordNetKey(Cursor cursor) {
+        return index.getMembersByWordNetKey(wnKeys[cursor.next(wnKeys.length)]);
+    }
+
+}
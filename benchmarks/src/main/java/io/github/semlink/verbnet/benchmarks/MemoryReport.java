@@ -0,0 +1,101 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import io.github.semlink.verbnet.DefaultVnIndex;
+import io.github.semlink.verbnet.VnClass;
+import io.github.semlink.verbnet.VnIndex;
+import io.github.semlink.verbnet.xml.VerbNetXmlFactory;
+import io.github.semlink.verbnet.xml.XmlLoadOptions;
+
+/**
+ * Reports load time and retained heap of a {@link DefaultVnIndex} over {@link SyntheticVerbNet synthetic} lexicons at
+ * increasing scales, both as measured after garbage collection and as {@link VnIndex#footprint() estimated}, and the
+ * estimated heap with {@link XmlLoadOptions#canonicalize() canonicalization}. Scales are given as
+ * arguments (default: 1 10 100), and the JVM heap must be large enough to hold the largest of them. If the
+ * {@code verbnet.dir} system property is set, e.g. to a full VerbNet release, that directory is reported first.
+ *
+ * @author jgung
+ */
+public final class MemoryReport {
+
+    private MemoryReport() {
+    }
+
+    public static void main(String[] args) {
+        int[] scales = args.length > 0 ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray() : new int[]{1, 10, 100};
+        // load once so that JAXB initialization is not attributed to the first report
+        VerbNetXmlFactory.readFromDirectory(BenchmarkData.synthetic(1));
+        System.out.printf("%10s %10s %10s %10s %10s %14s %14s %14s%n",
+                "data", "classes", "members", "frames", "load (ms)", "heap (bytes)", "estimated", "canonical");
+        if (null != System.getProperty(BenchmarkData.VERBNET_DIR_PROPERTY)) {
+            report("verbnet", BenchmarkData.directory());
+        }
+        for (int scale : scales) {
+            report("x" + scale, BenchmarkData.synthetic(scale));
+        }
+    }
+
+    private static void report(String name, Path directory) {
+        long before = usedHeap();
+        long start = System.nanoTime();
+        VnIndex index = new DefaultVnIndex(VerbNetXmlFactory.readFromDirectory(directory));
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+        long retained = usedHeap() - before;
+
+        long classes = 0;
+        long members = 0;
+        long frames = 0;
+        for (VnClass root : index.roots()) {
+            List<VnClass> descendants = root.descendants(true);
+            classes += descendants.size();
+            for (VnClass cls : descendants) {
+                members += cls.members().size();
+                frames += cls.frames().size();
+            }
+        }
+        long estimated = index.footprint().totalBytes();
+        long canonical = DefaultVnIndex.fromDirectory(directory.toString(), new XmlLoadOptions().canonicalize(true))
+                .footprint()
+                .totalBytes();
+
+        System.out.printf("%10s %10d %10d %10d %10d %14d %14d %14d%n", name, classes, members, frames, elapsed,
+                retained, estimated, canonical);
+    }
+
+    private static long usedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long used = Long.MAX_VALUE;
+        // repeat until the heap stops shrinking, as a single System.gc() is only a hint
+        for (int i = 0; i < 10; ++i) {
+            System.gc();
+            long current = memory.getHeapMemoryUsage().getUsed();
+            if (current >= used) {
+                break;
+            }
+            used = current;
+        }
+        return used;
+    }
+
+}
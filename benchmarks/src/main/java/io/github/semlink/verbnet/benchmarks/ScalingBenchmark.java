@@ -0,0 +1,132 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import io.github.semlink.verbnet.DefaultVnIndex;
+import io.github.semlink.verbnet.VnClass;
+import io.github.semlink.verbnet.VnFrame;
+import io.github.semlink.verbnet.VnIndex;
+import io.github.semlink.verbnet.VnMember;
+import io.github.semlink.verbnet.xml.VerbNetXmlFactory;
+
+/**
+ * Benchmarks loading, index construction, lookups and hierarchy traversal over {@link SyntheticVerbNet synthetic}
+ * lexicons at multiples of the size of a full VerbNet release. Larger scales can be selected with e.g.
+ * {@code -p scale=100,1000}, which require a correspondingly larger heap.
+ *
+ * @author jgung
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ScalingBenchmark {
+
+    @Param({"1", "10"})
+    private int scale;
+
+    private Path directory;
+    private List<VnClass> roots;
+    private VnIndex index;
+    private VnClass[] classes;
+    private String[] ids;
+    private String[] lemmas;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        directory = BenchmarkData.synthetic(scale);
+        roots = VerbNetXmlFactory.readFromDirectory(directory);
+        index = new DefaultVnIndex(roots);
+        List<VnClass> classes = new ArrayList<>();
+        List<String> lemmas = new ArrayList<>();
+        for (VnClass root : roots) {
+            for (VnClass cls : root.descendants(true)) {
+                classes.add(cls);
+                for (VnMember member : cls.members()) {
+                    lemmas.add(member.name());
+                }
+            }
+        }
+        this.classes = classes.toArray(new VnClass[0]);
+        this.ids = classes.stream().map(cls -> cls.verbNetId().toString()).toArray(String[]::new);
+        this.lemmas = lemmas.toArray(new String[0]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public List<VnClass> readFromDirectory() {
+        return VerbNetXmlFactory.readFromDirectory(directory);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public VnIndex buildIndex() {
+        return new DefaultVnIndex(roots);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public VnClass getById(Cursor cursor) {
+        return index.getById(ids[cursor.next(ids.length)]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Set<VnClass> getByLemma(Cursor cursor) {
+        return index.getByLemma(lemmas[cursor.next(lemmas.length)]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public List<VnClass> descendants(Cursor cursor) {
+        return classes[cursor.next(classes.length)].descendants();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public List<VnFrame> framesIncludeInherited(Cursor cursor) {
+        return classes[cursor.next(classes.length)].framesIncludeInherited();
+    }
+
+}
@@ -0,0 +1,390 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+/**
+ * Generates synthetic, structurally valid VerbNet XML for scale and stress testing. Output is deterministic for a
+ * given configuration and seed. {@link #scaled(int)} provides configurations relative to the size of a full VerbNet
+ * release (roughly 330 root classes and 6,000 members).
+ * <p>
+ * Lemmas are drawn from a vocabulary shared across classes, so that (as in VerbNet) many lemmas belong to several
+ * classes, and a small fraction of members are phrasal, e.g. "go_ballistic".
+ *
+ * @author jgung
+ */
+public class SyntheticVerbNet {
+
+    private static final String[] SYLLABLES = {
+            "ba", "ble", "cla", "cro", "da", "fen", "gri", "ho", "jun", "ka", "lo", "mar", "nes", "pra", "qui", "ra",
+            "sto", "tri", "ur", "ven", "wa", "xe", "yo", "zil"
+    };
+    private static final String[] PARTICLES = {"up", "out", "off", "down", "ballistic", "away"};
+    private static final String[] ROLES = {
+            "Agent", "Patient", "Theme", "Instrument", "Location", "Destination", "Source", "Beneficiary",
+            "Experiencer", "Stimulus", "Attribute", "Result", "Recipient", "Topic", "Cause"
+    };
+    private static final String[] RESTRICTIONS = {
+            "animate", "concrete", "location", "organization", "human", "region", "solid", "body_part", "machine",
+            "abstract", "force", "comestible", "elongated", "pointy", "refl", "vehicle"
+    };
+    private static final String[] PREPOSITIONS = {"with", "into", "onto", "from", "to", "for", "at", "on", "in"};
+    private static final String[] PREDICATES = {
+            "has_state", "cause", "motion", "change_value", "has_location", "do", "contact", "utilize", "path_rel",
+            "has_possession", "transfer", "exert_force"
+    };
+    private static final String[] FEATURES = {"increase", "decrease"};
+
+    private int rootClasses = 330;
+    private int subclassDepth = 1;
+    private int subclassesPerClass = 2;
+    private int membersPerClass = 6;
+    private int wnKeysPerMember = 2;
+    private int framesPerClass = 4;
+    private int examplesPerFrame = 1;
+    private int restrictionDepth = 2;
+    private long seed = 42;
+
+    /**
+     * Return a configuration with roughly {@code factor} times as many classes and members as a full VerbNet release.
+     */
+    public static SyntheticVerbNet scaled(int factor) {
+        return new SyntheticVerbNet().rootClasses(330 * factor);
+    }
+
+    public SyntheticVerbNet rootClasses(int rootClasses) {
+        this.rootClasses = rootClasses;
+        return this;
+    }
+
+    public SyntheticVerbNet subclassDepth(int subclassDepth) {
+        this.subclassDepth = subclassDepth;
+        return this;
+    }
+
+    public SyntheticVerbNet subclassesPerClass(int subclassesPerClass) {
+        this.subclassesPerClass = subclassesPerClass;
+        return this;
+    }
+
+    public SyntheticVerbNet membersPerClass(int membersPerClass) {
+        this.membersPerClass = membersPerClass;
+        return this;
+    }
+
+    public SyntheticVerbNet wnKeysPerMember(int wnKeysPerMember) {
+        this.wnKeysPerMember = wnKeysPerMember;
+        return this;
+    }
+
+    public SyntheticVerbNet framesPerClass(int framesPerClass) {
+        this.framesPerClass = framesPerClass;
+        return this;
+    }
+
+    public SyntheticVerbNet examplesPerFrame(int examplesPerFrame) {
+        this.examplesPerFrame = examplesPerFrame;
+        return this;
+    }
+
+    public SyntheticVerbNet restrictionDepth(int restrictionDepth) {
+        this.restrictionDepth = restrictionDepth;
+        return this;
+    }
+
+    public SyntheticVerbNet seed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * Return the total number of classes (roots and subclasses) that will be generated.
+     */
+    public long totalClasses() {
+        long perRoot = 0;
+        long level = 1;
+        for (int depth = 0; depth <= subclassDepth; ++depth) {
+            perRoot += level;
+            level *= subclassesPerClass;
+        }
+        return perRoot * rootClasses;
+    }
+
+    /**
+     * Write one XML file per root class to the given directory, for use with
+     * {@link io.github.semlink.verbnet.xml.VerbNetXmlFactory#readFromDirectory(Path)}.
+     *
+     * @param directory output directory, created if it does not exist
+     * @return output directory
+     */
+    public Path writeDirectory(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Random random = new Random(seed);
+        String[] vocabulary = vocabulary(random);
+        for (int root = 0; root < rootClasses; ++root) {
+            String id = rootId(root);
+            Path path = directory.resolve(className(root) + "-" + id + ".xml");
+            try (OutputStream outputStream = Files.newOutputStream(path)) {
+                XMLStreamWriter writer = XMLOutputFactory.newInstance().createXMLStreamWriter(outputStream, "UTF-8");
+                writer.writeStartDocument("UTF-8", "1.0");
+                writer.writeDTD("<!DOCTYPE VNCLASS SYSTEM \"vn_class-3.dtd\">");
+                writeClass(writer, "VNCLASS", className(root) + "-" + id, 0, random, vocabulary);
+                writer.writeEndDocument();
+                writer.close();
+            } catch (XMLStreamException e) {
+                throw new IOException(e);
+            }
+        }
+        return directory;
+    }
+
+    /**
+     * Write all classes to a single XML file, for use with
+     * {@link io.github.semlink.verbnet.xml.VerbNetXmlFactory#readVerbNet(java.io.InputStream)}.
+     *
+     * @param path output file
+     * @return output file
+     */
+    public Path writeSingleFile(Path path) throws IOException {
+        if (null != path.getParent()) {
+            Files.createDirectories(path.getParent());
+        }
+        Random random = new Random(seed);
+        String[] vocabulary = vocabulary(random);
+        try (OutputStream outputStream = Files.newOutputStream(path)) {
+            XMLStreamWriter writer = XMLOutputFactory.newInstance().createXMLStreamWriter(outputStream, "UTF-8");
+            writer.writeStartDocument("UTF-8", "1.0");
+            writer.writeDTD("<!DOCTYPE VERBNET SYSTEM \"vn_class-3.dtd\">");
+            writer.writeStartElement("VERBNET");
+            for (int root = 0; root < rootClasses; ++root) {
+                writeClass(writer, "VNCLASS", className(root) + "-" + rootId(root), 0, random, vocabulary);
+            }
+            writer.writeEndElement();
+            writer.writeEndDocument();
+            writer.close();
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+        return path;
+    }
+
+    private String[] vocabulary(Random random) {
+        // roughly half as many distinct lemmas as members, so that lemmas are shared between classes
+        int size = (int) Math.max(1, totalClasses() * membersPerClass / 2);
+        List<String> vocabulary = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            vocabulary.add(word(i));
+        }
+        String[] result = vocabulary.toArray(new String[0]);
+        for (int i = result.length - 1; i > 0; --i) {
+            int j = random.nextInt(i + 1);
+            String swap = result[i];
+            result[i] = result[j];
+            result[j] = swap;
+        }
+        return result;
+    }
+
+    private static String word(int index) {
+        StringBuilder word = new StringBuilder();
+        int remaining = index;
+        do {
+            word.append(SYLLABLES[remaining % SYLLABLES.length]);
+            remaining /= SYLLABLES.length;
+        } while (remaining > 0);
+        return word.toString();
+    }
+
+    private static String rootId(int root) {
+        return (10 + root / 100) + "." + (root % 100 + 1);
+    }
+
+    private static String className(int root) {
+        return word(root);
+    }
+
+    private void writeClass(XMLStreamWriter writer, String element, String id, int depth, Random random,
+                            String[] vocabulary) throws XMLStreamException {
+        writer.writeStartElement(element);
+        writer.writeAttribute("ID", id);
+
+        writer.writeStartElement("MEMBERS");
+        for (int i = 0; i < membersPerClass; ++i) {
+            writeMember(writer, vocabulary[random.nextInt(vocabulary.length)], random);
+        }
+        writer.writeEndElement();
+
+        List<String> roles = new ArrayList<>();
+        writer.writeStartElement("THEMROLES");
+        // subclasses in VerbNet typically add few roles, so only roots get a full role set
+        int roleCount = depth == 0 ? 3 + random.nextInt(3) : random.nextInt(2);
+        for (int i = 0; i < roleCount; ++i) {
+            String role = ROLES[random.nextInt(ROLES.length)];
+            roles.add(role);
+            writer.writeStartElement("THEMROLE");
+            writer.writeAttribute("type", role);
+            writeRestrictions(writer, restrictionDepth, random);
+            writer.writeEndElement();
+        }
+        writer.writeEndElement();
+        if (roles.isEmpty()) {
+            roles.add(ROLES[0]);
+        }
+
+        writer.writeStartElement("FRAMES");
+        for (int i = 0; i < framesPerClass; ++i) {
+            writeFrame(writer, roles, random);
+        }
+        writer.writeEndElement();
+
+        writer.writeStartElement("SUBCLASSES");
+        if (depth < subclassDepth) {
+            for (int i = 0; i < subclassesPerClass; ++i) {
+                writeClass(writer, "VNSUBCLASS", id + "-" + (i + 1), depth + 1, random, vocabulary);
+            }
+        }
+        writer.writeEndElement();
+
+        writer.writeEndElement();
+    }
+
+    private void writeMember(XMLStreamWriter writer, String lemma, Random random) throws XMLStreamException {
+        String name = random.nextInt(20) == 0 ? lemma + "_" + PARTICLES[random.nextInt(PARTICLES.length)] : lemma;
+        StringBuilder wn = new StringBuilder();
+        for (int i = 0; i < wnKeysPerMember; ++i) {
+            if (i > 0) {
+                wn.append(' ');
+            }
+            wn.append(name).append("%2:").append(29 + random.nextInt(15)).append(':')
+                    .append(String.format("%02d", random.nextInt(4))).append("::");
+        }
+        writer.writeEmptyElement("MEMBER");
+        if (random.nextInt(10) == 0) {
+            writer.writeAttribute("features", "+" + FEATURES[random.nextInt(FEATURES.length)]);
+        }
+        writer.writeAttribute("grouping", lemma + ".0" + (1 + random.nextInt(3)));
+        writer.writeAttribute("name", name);
+        writer.writeAttribute("verbnet_key", name + "#" + (1 + random.nextInt(5)));
+        writer.writeAttribute("wn", wn.toString());
+    }
+
+    private void writeRestrictions(XMLStreamWriter writer, int depth, Random random) throws XMLStreamException {
+        writer.writeStartElement("SELRESTRS");
+        if (depth > 0) {
+            if (random.nextBoolean()) {
+                writer.writeAttribute("logic", "or");
+            }
+            for (int i = 0; i < 2; ++i) {
+                writer.writeEmptyElement("SELRESTR");
+                writer.writeAttribute("Value", random.nextInt(4) == 0 ? "-" : "+");
+                writer.writeAttribute("type", RESTRICTIONS[random.nextInt(RESTRICTIONS.length)]);
+            }
+            if (depth > 1) {
+                writeRestrictions(writer, depth - 1, random);
+            }
+        }
+        writer.writeEndElement();
+    }
+
+    private void writeFrame(XMLStreamWriter writer, List<String> roles, Random random) throws XMLStreamException {
+        String agent = roles.get(0);
+        String patient = roles.get(random.nextInt(roles.size()));
+        String oblique = roles.get(random.nextInt(roles.size()));
+        String prep = PREPOSITIONS[random.nextInt(PREPOSITIONS.length)];
+
+        writer.writeStartElement("FRAME");
+        writer.writeEmptyElement("DESCRIPTION");
+        writer.writeAttribute("descriptionNumber", "0.2");
+        writer.writeAttribute("primary", "NP V NP PP." + oblique.toLowerCase());
+        writer.writeAttribute("secondary", "NP-PP; " + oblique + "-PP");
+        writer.writeAttribute("xtag", "0.2");
+
+        writer.writeStartElement("EXAMPLES");
+        for (int i = 0; i < examplesPerFrame; ++i) {
+            writer.writeStartElement("EXAMPLE");
+            writer.writeCharacters("The " + word(random.nextInt(500)) + " " + word(random.nextInt(500)) + "ed the "
+                    + word(random.nextInt(500)) + " " + prep + " the " + word(random.nextInt(500)) + ".");
+            writer.writeEndElement();
+        }
+        writer.writeEndElement();
+
+        writer.writeStartElement("SYNTAX");
+        writeNounPhrase(writer, agent, random);
+        writer.writeStartElement("VERB");
+        writer.writeEndElement();
+        writeNounPhrase(writer, patient, random);
+        writer.writeStartElement("PREP");
+        writer.writeAttribute("value", prep + " " + PREPOSITIONS[random.nextInt(PREPOSITIONS.length)]);
+        writer.writeStartElement("SELRESTRS");
+        writer.writeEndElement();
+        writer.writeEndElement();
+        writeNounPhrase(writer, oblique, random);
+        writer.writeEndElement();
+
+        writer.writeStartElement("SEMANTICS");
+        int predicates = 2 + random.nextInt(3);
+        for (int i = 0; i < predicates; ++i) {
+            writer.writeStartElement("PRED");
+            if (random.nextInt(6) == 0) {
+                writer.writeAttribute("bool", "!");
+            }
+            writer.writeAttribute("value", PREDICATES[random.nextInt(PREDICATES.length)]);
+            writer.writeStartElement("ARGS");
+            writeArgument(writer, "Event", "e" + (i + 1));
+            writeArgument(writer, "ThemRole", i % 2 == 0 ? agent : patient);
+            if (random.nextInt(4) == 0) {
+                writeArgument(writer, "VerbSpecific", "V_Direction");
+            }
+            writer.writeEndElement();
+            writer.writeEndElement();
+        }
+        writer.writeEndElement();
+
+        writer.writeEndElement();
+    }
+
+    private static void writeNounPhrase(XMLStreamWriter writer, String role, Random random) throws XMLStreamException {
+        writer.writeStartElement("NP");
+        writer.writeAttribute("value", role);
+        writer.writeStartElement("SYNRESTRS");
+        if (random.nextInt(5) == 0) {
+            writer.writeEmptyElement("SYNRESTR");
+            writer.writeAttribute("Value", "+");
+            writer.writeAttribute("type", "np_ing");
+        }
+        writer.writeEndElement();
+        writer.writeEndElement();
+    }
+
+    private static void writeArgument(XMLStreamWriter writer, String type, String value) throws XMLStreamException {
+        writer.writeEmptyElement("ARG");
+        writer.writeAttribute("type", type);
+        writer.writeAttribute("value", value);
+    }
+
+}
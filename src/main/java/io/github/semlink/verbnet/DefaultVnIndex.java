@@ -18,29 +18,51 @@ package io.github.semlink.verbnet;
 
 import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.LinkedHashMultimap;
-import com.google.common.collect.SetMultimap;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSetMultimap;
 import com.google.common.collect.Sets;
 
 import java.io.InputStream;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
+import io.github.semlink.verbnet.index.EventStructureIndex;
+import io.github.semlink.verbnet.index.ExampleIndex;
+import io.github.semlink.verbnet.index.FrameFeatureIndex;
+import io.github.semlink.verbnet.index.InflectionTable;
+import io.github.semlink.verbnet.index.LemmaTrie;
+import io.github.semlink.verbnet.index.PhrasalMatcher;
+import io.github.semlink.verbnet.index.PredicateSequenceIndex;
+import io.github.semlink.verbnet.index.RoleTable;
+import io.github.semlink.verbnet.index.RolesetMapping;
+import io.github.semlink.verbnet.index.SyntaxPatternIndex;
+import io.github.semlink.verbnet.index.VnClassIdIndex;
+import io.github.semlink.verbnet.index.VnOrdinals;
+import io.github.semlink.verbnet.index.WordNetIndex;
+import io.github.semlink.verbnet.memory.FootprintEstimator;
+import io.github.semlink.verbnet.memory.VnFootprint;
 import io.github.semlink.verbnet.xml.VerbNetXmlFactory;
+import io.github.semlink.verbnet.xml.XmlLoadOptions;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.experimental.Accessors;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * Default {@link VnIndex} implementation.
  *
  * @author jamesgung
  */
+@Slf4j
 public class DefaultVnIndex implements VnIndex {
 
     public static final String DEFAULT_INDEX = "vn_3.3.xml";
@@ -52,8 +74,22 @@ public class DefaultVnIndex implements VnIndex {
      * @return base lemma
      */
     public static String getBaseForm(@NonNull String phrasalVerb) {
-        String[] fields = phrasalVerb.replaceAll("\\s+", "_").split("_");
-        return fields[0].toLowerCase();
+        // equivalent to splitting on whitespace or underscores, without allocating when already a lower-case base form
+        for (int i = 0; i < phrasalVerb.length(); ++i) {
+            switch (phrasalVerb.charAt(i)) {
+                case '_':
+                case ' ':
+                case '\t':
+                case '\n':
+                case '\u000B':
+                case '\f':
+                case '\r':
+                    return phrasalVerb.substring(0, i).toLowerCase();
+                default:
+                    break;
+            }
+        }
+        return phrasalVerb.toLowerCase();
     }
 
     /**
@@ -63,6 +99,22 @@ public class DefaultVnIndex implements VnIndex {
         return new DefaultVnIndex(VerbNetXmlFactory.readVerbNet(xmlInputStream));
     }
 
+    /**
+     * Initialize a new {@link VnIndex} from a given XML input stream, using the given {@link XmlLoadOptions options}.
+     */
+    public static DefaultVnIndex fromInputStream(@NonNull InputStream xmlInputStream, @NonNull XmlLoadOptions options) {
+        return new DefaultVnIndex(VerbNetXmlFactory.readVerbNet(xmlInputStream, options));
+    }
+
+    /**
+     * Initialize a new {@link VnIndex} from a given XML input stream, using the given {@link XmlLoadOptions load options}
+     * and {@link VnIndexOptions index options}.
+     */
+    public static DefaultVnIndex fromInputStream(@NonNull InputStream xmlInputStream, @NonNull XmlLoadOptions options,
+                                                 @NonNull VnIndexOptions indexOptions) {
+        return new DefaultVnIndex(VerbNetXmlFactory.readVerbNet(xmlInputStream, options), indexOptions);
+    }
+
     /**
      * Initialize a new {@link VnIndex} from a path to a VerbNet XML directory.
      */
@@ -70,18 +122,94 @@ public class DefaultVnIndex implements VnIndex {
         return new DefaultVnIndex(VerbNetXmlFactory.readFromDirectory(Paths.get(path)));
     }
 
+    /**
+     * Initialize a new {@link VnIndex} from a path to a VerbNet XML directory, using the given {@link XmlLoadOptions options}.
+     */
+    public static DefaultVnIndex fromDirectory(@NonNull String path, @NonNull XmlLoadOptions options) {
+        return new DefaultVnIndex(VerbNetXmlFactory.readFromDirectory(Paths.get(path), options));
+    }
+
+    /**
+     * Initialize a new {@link VnIndex} from a path to a VerbNet XML directory, using the given {@link XmlLoadOptions load
+     * options} and {@link VnIndexOptions index options}.
+     */
+    public static DefaultVnIndex fromDirectory(@NonNull String path, @NonNull XmlLoadOptions options,
+                                               @NonNull VnIndexOptions indexOptions) {
+        return new DefaultVnIndex(VerbNetXmlFactory.readFromDirectory(Paths.get(path), options), indexOptions);
+    }
+
     @Getter
     @Accessors(fluent = true)
     private List<VnClass> roots;
 
-    private SetMultimap<String, VnClass> lemmaVnMap = LinkedHashMultimap.create();
-    private SetMultimap<String, WnKey> lemmaWnMap = LinkedHashMultimap.create();
-    private SetMultimap<WnKey, VnMember> wordNetMemberMap = LinkedHashMultimap.create();
-    private SetMultimap<String, VnMember> lemmaMemberMap = LinkedHashMultimap.create();
+    // immutable multimaps return their stored sets from get, so exact-match lookups do not allocate
+    private ImmutableSetMultimap<String, VnClass> lemmaVnMap;
+    private ImmutableSetMultimap<String, WnKey> lemmaWnMap;
+    // keyed by packed WordNet keys, so that lookups by WnKey or raw sense key compare primitives
+    private WordNetIndex wordNetIndex;
+    private ImmutableSetMultimap<String, VnMember> lemmaMemberMap;
+    private ImmutableSetMultimap<String, VnMember> groupingMemberMap;
+    private ImmutableSetMultimap<String, VnMember> featureMemberMap;
+    private ImmutableMap<String, VnMember> verbnetKeyMemberMap;
+    private ImmutableSetMultimap<String, RolesetMapping> rolesetMappings;
     private Map<String, VnClass> senseVnMap = new HashMap<>();
 
+    // secondary indexes, built on first use unless requested in VnIndexOptions
+    private final Lazy<VnOrdinals> ordinals = new Lazy<>(() -> new VnOrdinals(roots));
+    // fingerprints read every example, so they are not computed at load to keep compressed examples compressed
+    private final Lazy<VnFingerprints> fingerprints = new Lazy<>(() -> new VnFingerprints(roots));
+    private final Lazy<ExampleIndex> exampleIndex = new Lazy<>(() -> new ExampleIndex(ordinals()));
+    private final Lazy<FrameFeatureIndex> frameFeatureIndex = new Lazy<>(() -> new FrameFeatureIndex(ordinals()));
+    private final Lazy<SyntaxPatternIndex> syntaxPatternIndex = new Lazy<>(() -> new SyntaxPatternIndex(ordinals()));
+    private final Lazy<PredicateSequenceIndex> predicateSequenceIndex =
+            new Lazy<>(() -> new PredicateSequenceIndex(ordinals()));
+    private final Lazy<VnClassIdIndex> classIdIndex = new Lazy<>(() -> new VnClassIdIndex(ordinals()));
+    private final Lazy<LemmaTrie> lemmaTrie = new Lazy<>(() -> new LemmaTrie(ordinals()));
+    private final Lazy<PhrasalMatcher> phrasalMatcher = new Lazy<>(() -> new PhrasalMatcher(ordinals()));
+    private final Lazy<InflectionTable> inflectionTable = new Lazy<>(() -> new InflectionTable(ordinals()));
+    private final Lazy<RoleTable> roleTable = new Lazy<>(() -> new RoleTable(ordinals()));
+    private final Lazy<EventStructureIndex> eventStructureIndex =
+            new Lazy<>(() -> new EventStructureIndex(ordinals()));
+
     public DefaultVnIndex(@NonNull List<VnClass> verbClasses) {
+        this(verbClasses, new VnIndexOptions());
+    }
+
+    public DefaultVnIndex(@NonNull List<VnClass> verbClasses, @NonNull VnIndexOptions options) {
         initialize(verbClasses);
+        if (options.indexExamples()) {
+            exampleIndex();
+        }
+        if (options.indexFrameFeatures()) {
+            frameFeatureIndex();
+        }
+        if (options.indexSyntaxPatterns()) {
+            syntaxPatternIndex();
+        }
+        if (options.indexPredicateSequences()) {
+            predicateSequenceIndex();
+        }
+        if (options.indexClassIds()) {
+            classIdIndex();
+        }
+        if (options.indexLemmaTrie()) {
+            lemmaTrie();
+        }
+        if (options.indexPhrasalMembers()) {
+            phrasalMatcher();
+        }
+        if (options.indexInflections()) {
+            inflectionTable();
+        }
+        if (options.indexEffectiveRoles()) {
+            roleTable();
+        }
+        if (options.indexEventStructure()) {
+            eventStructureIndex();
+        }
+        if (options.logFootprint() && log.isDebugEnabled()) {
+            log.debug("Estimated VerbNet index footprint:\n{}", footprint());
+        }
     }
 
     public DefaultVnIndex() {
@@ -92,20 +220,52 @@ public class DefaultVnIndex implements VnIndex {
 
     private void initialize(@NonNull List<VnClass> verbClasses) {
         this.roots = ImmutableList.copyOf(verbClasses);
+        ImmutableSetMultimap.Builder<String, VnClass> lemmaVnMap = ImmutableSetMultimap.builder();
+        ImmutableSetMultimap.Builder<String, WnKey> lemmaWnMap = ImmutableSetMultimap.builder();
+        ImmutableSetMultimap.Builder<String, VnMember> lemmaMemberMap = ImmutableSetMultimap.builder();
+        ImmutableSetMultimap.Builder<String, VnMember> groupingMemberMap = ImmutableSetMultimap.builder();
+        ImmutableSetMultimap.Builder<String, VnMember> featureMemberMap = ImmutableSetMultimap.builder();
+        Map<String, VnMember> verbnetKeyMemberMap = new LinkedHashMap<>();
+        ImmutableSetMultimap.Builder<String, RolesetMapping> rolesetMappings = ImmutableSetMultimap.builder();
         for (VnClass cls : verbClasses) {
             senseVnMap.put(cls.verbNetId().rootId(), cls);
             for (VnClass subcls : cls.descendants(true)) {
+                Map<String, List<VnMember>> groupingMembers = new LinkedHashMap<>();
                 for (VnMember member : subcls.members()) {
                     String name = getBaseForm(member.name());
                     lemmaVnMap.put(name, subcls);
                     lemmaWnMap.putAll(name, member.wn());
                     lemmaMemberMap.put(name, member);
-                    for (WnKey key : member.wn()) {
-                        wordNetMemberMap.put(key, member);
+                    for (String grouping : member.groupings()) {
+                        groupingMemberMap.put(grouping, member);
+                        groupingMembers.computeIfAbsent(grouping, g -> new ArrayList<>()).add(member);
+                    }
+                    for (String feature : member.features()) {
+                        featureMemberMap.put(feature, member);
+                    }
+                    if (!Strings.isNullOrEmpty(member.verbnetKey())) {
+                        verbnetKeyMemberMap.putIfAbsent(member.verbnetKey(), member);
                     }
                 }
+                if (!groupingMembers.isEmpty()) {
+                    List<VnThematicRole> roles = ImmutableList.copyOf(subcls.rolesIncludeInherited());
+                    groupingMembers.forEach((grouping, members) -> rolesetMappings.put(grouping,
+                            new RolesetMapping(grouping, subcls, ImmutableList.copyOf(members), roles)));
+                }
             }
         }
+        this.lemmaVnMap = lemmaVnMap.build();
+        this.lemmaWnMap = lemmaWnMap.build();
+        this.wordNetIndex = new WordNetIndex(ordinals());
+        this.lemmaMemberMap = lemmaMemberMap.build();
+        this.groupingMemberMap = groupingMemberMap.build();
+        this.featureMemberMap = featureMemberMap.build();
+        this.verbnetKeyMemberMap = ImmutableMap.copyOf(verbnetKeyMemberMap);
+        this.rolesetMappings = rolesetMappings.build();
+        if (log.isDebugEnabled()) {
+            log.debug("Loaded VerbNet index with {} root classes, {} classes, {} members and {} frames", roots.size(),
+                    ordinals().classCount(), ordinals().memberCount(), ordinals().frameCount());
+        }
     }
 
     @Override
@@ -176,7 +336,12 @@ public class DefaultVnIndex implements VnIndex {
 
     @Override
     public Set<VnMember> getMembersByWordNetKey(@NonNull WnKey wnKey) {
-        return wordNetMemberMap.get(wnKey);
+        return wordNetIndex.members(wnKey);
+    }
+
+    @Override
+    public Set<VnMember> getMembersByWordNetKey(@NonNull String senseKey) {
+        return wordNetIndex.members(senseKey);
     }
 
     @Override
@@ -184,4 +349,163 @@ public class DefaultVnIndex implements VnIndex {
         return lemmaWnMap.get(getBaseForm(lemma));
     }
 
+    @Override
+    public Set<VnMember> getMembersByGrouping(@NonNull String grouping) {
+        return groupingMemberMap.get(grouping);
+    }
+
+    @Override
+    public Set<VnMember> getMembersByFeature(@NonNull String feature) {
+        return featureMemberMap.get(feature.startsWith("+") ? feature.substring(1) : feature);
+    }
+
+    @Override
+    public VnMember getMemberByVerbnetKey(@NonNull String verbnetKey) {
+        return verbnetKeyMemberMap.get(verbnetKey);
+    }
+
+    @Override
+    public Set<RolesetMapping> getRolesetMappings(@NonNull String roleset) {
+        return rolesetMappings.get(roleset);
+    }
+
+    @Override
+    public WordNetIndex wordNetIndex() {
+        return wordNetIndex;
+    }
+
+    @Override
+    public Stream<VnClass> allClasses() {
+        return ordinals().classes();
+    }
+
+    @Override
+    public Stream<VnMember> allMembers() {
+        return ordinals().members();
+    }
+
+    @Override
+    public Stream<VnFrame> allFrames() {
+        return ordinals().frames();
+    }
+
+    @Override
+    public VnFingerprints fingerprints() {
+        return fingerprints.get();
+    }
+
+    @Override
+    public VnOrdinals ordinals() {
+        return ordinals.get();
+    }
+
+    @Override
+    public ExampleIndex exampleIndex() {
+        return exampleIndex.get();
+    }
+
+    @Override
+    public FrameFeatureIndex frameFeatureIndex() {
+        return frameFeatureIndex.get();
+    }
+
+    @Override
+    public SyntaxPatternIndex syntaxPatternIndex() {
+        return syntaxPatternIndex.get();
+    }
+
+    @Override
+    public PredicateSequenceIndex predicateSequenceIndex() {
+        return predicateSequenceIndex.get();
+    }
+
+    @Override
+    public VnClassIdIndex classIdIndex() {
+        return classIdIndex.get();
+    }
+
+    @Override
+    public LemmaTrie lemmaTrie() {
+        return lemmaTrie.get();
+    }
+
+    @Override
+    public PhrasalMatcher phrasalMatcher() {
+        return phrasalMatcher.get();
+    }
+
+    @Override
+    public InflectionTable inflectionTable() {
+        return inflectionTable.get();
+    }
+
+    @Override
+    public RoleTable roleTable() {
+        return roleTable.get();
+    }
+
+    @Override
+    public EventStructureIndex eventStructureIndex() {
+        return eventStructureIndex.get();
+    }
+
+    @Override
+    public VnFootprint footprint() {
+        return new FootprintEstimator()
+                .measure(roots, FootprintEstimator.CLASSES)
+                .measure(lemmaVnMap, "lemma-class map")
+                .measure(lemmaWnMap, "lemma-wordnet map")
+                .measure(wordNetIndex, "wordnet index")
+                .measure(lemmaMemberMap, "lemma-member map")
+                .measure(groupingMemberMap, "grouping-member map")
+                .measure(featureMemberMap, "feature-member map")
+                .measure(verbnetKeyMemberMap, "verbnet key-member map")
+                .measure(rolesetMappings, "roleset mappings")
+                .measure(senseVnMap, "root id map")
+                .measure(fingerprints.peek(), "fingerprints")
+                .measure(ordinals.peek(), "ordinals")
+                .measure(exampleIndex.peek(), "example index")
+                .measure(frameFeatureIndex.peek(), "frame feature index")
+                .measure(syntaxPatternIndex.peek(), "syntax pattern index")
+                .measure(predicateSequenceIndex.peek(), "predicate sequence index")
+                .measure(classIdIndex.peek(), "class id index")
+                .measure(lemmaTrie.peek(), "lemma trie")
+                .measure(phrasalMatcher.peek(), "phrasal matcher")
+                .measure(inflectionTable.peek(), "inflection table")
+                .measure(roleTable.peek(), "role table")
+                .measure(eventStructureIndex.peek(), "event structure index")
+                .report();
+    }
+
+    /**
+     * Thread-safe lazily initialized value.
+     */
+    private static final class Lazy<T> {
+
+        private final Supplier<T> supplier;
+        private volatile T value;
+
+        private Lazy(Supplier<T> supplier) {
+            this.supplier = supplier;
+        }
+
+        private T get() {
+            T result = value;
+            if (null == result) {
+                synchronized (this) {
+                    result = value;
+                    if (null == result) {
+                        result = value = supplier.get();
+                    }
+                }
+            }
+            return result;
+        }
+
+        private T peek() {
+            return value;
+        }
+
+    }
+
 }
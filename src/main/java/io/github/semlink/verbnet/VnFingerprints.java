@@ -0,0 +1,258 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.github.semlink.verbnet.restrictions.VnRestrictions;
+import io.github.semlink.verbnet.semantics.VnSemanticArgument;
+import io.github.semlink.verbnet.semantics.VnSemanticPredicate;
+import io.github.semlink.verbnet.syntax.VnLex;
+import io.github.semlink.verbnet.syntax.VnNounPhrase;
+import io.github.semlink.verbnet.syntax.VnPrep;
+import io.github.semlink.verbnet.syntax.VnSyntax;
+import lombok.NonNull;
+
+/**
+ * Merkle-style content fingerprints for the {@link VnClass classes}, {@link VnMember members}, {@link VnThematicRole
+ * roles} and {@link VnFrame frames} of an index. A class fingerprint covers the class and all of its descendants, so
+ * equal class fingerprints mean identical subtrees. Fingerprints depend only on content (using FarmHash
+ * Fingerprint64), so they are stable across JVMs and releases of this library, and may be used as persistent cache keys.
+ * <p>
+ * Fingerprints are computed once for every object reachable from the given roots; objects not reachable from them are
+ * fingerprinted on demand.
+ *
+ * @author jgung
+ */
+public class VnFingerprints {
+
+    private static final HashFunction HASH = Hashing.farmHashFingerprint64();
+
+    private final Map<Object, Long> fingerprints = new IdentityHashMap<>();
+    private final Map<VnClass, Long> localFingerprints = new IdentityHashMap<>();
+    private final long indexFingerprint;
+
+    /**
+     * Compute fingerprints for all classes reachable from a given list of roots.
+     */
+    public VnFingerprints(@NonNull List<VnClass> roots) {
+        Hasher hasher = HASH.newHasher().putInt(roots.size());
+        for (VnClass root : roots) {
+            hasher.putLong(compute(root));
+        }
+        indexFingerprint = hasher.hash().asLong();
+    }
+
+    /**
+     * Return a fingerprint of all classes in the index.
+     */
+    public long index() {
+        return indexFingerprint;
+    }
+
+    /**
+     * Return a fingerprint of a given class, including its subclasses and their descendants.
+     */
+    public long subtree(@NonNull VnClass cls) {
+        Long result = fingerprints.get(cls);
+        return null == result ? compute(cls) : result;
+    }
+
+    /**
+     * Return a fingerprint of a given class's ID, members, roles and frames, excluding its subclasses.
+     */
+    public long local(@NonNull VnClass cls) {
+        Long result = localFingerprints.get(cls);
+        return null == result ? computeLocal(cls) : result;
+    }
+
+    /**
+     * Return a fingerprint of a given member.
+     */
+    public long member(@NonNull VnMember member) {
+        Long result = fingerprints.get(member);
+        return null == result ? computeMember(member) : result;
+    }
+
+    /**
+     * Return a fingerprint of a given thematic role, including its selectional restrictions.
+     */
+    public long role(@NonNull VnThematicRole role) {
+        Long result = fingerprints.get(role);
+        return null == result ? computeRole(role) : result;
+    }
+
+    /**
+     * Return a fingerprint of a given frame.
+     */
+    public long frame(@NonNull VnFrame frame) {
+        Long result = fingerprints.get(frame);
+        return null == result ? computeFrame(frame) : result;
+    }
+
+    /**
+     * Return a fingerprint of a list of restrictions.
+     */
+    public static long restrictions(@NonNull List<VnRestrictions<String>> restrictions) {
+        Hasher hasher = HASH.newHasher();
+        putRestrictions(hasher, restrictions);
+        return hasher.hash().asLong();
+    }
+
+    private long compute(VnClass cls) {
+        List<VnClass> subclasses = cls.subclasses();
+        Hasher hasher = HASH.newHasher()
+                .putLong(computeLocal(cls))
+                .putInt(subclasses.size());
+        for (VnClass subclass : subclasses) {
+            hasher.putLong(compute(subclass));
+        }
+        long result = hasher.hash().asLong();
+        fingerprints.put(cls, result);
+        return result;
+    }
+
+    private long computeLocal(VnClass cls) {
+        Hasher hasher = HASH.newHasher();
+        putString(hasher, cls.verbNetId().toString());
+        List<VnMember> members = cls.members();
+        hasher.putInt(members.size());
+        for (VnMember member : members) {
+            long fingerprint = computeMember(member);
+            fingerprints.put(member, fingerprint);
+            hasher.putLong(fingerprint);
+        }
+        List<VnThematicRole> roles = cls.roles();
+        hasher.putInt(roles.size());
+        for (VnThematicRole role : roles) {
+            long fingerprint = computeRole(role);
+            fingerprints.put(role, fingerprint);
+            hasher.putLong(fingerprint);
+        }
+        List<VnFrame> frames = cls.frames();
+        hasher.putInt(frames.size());
+        for (VnFrame frame : frames) {
+            long fingerprint = computeFrame(frame);
+            fingerprints.put(frame, fingerprint);
+            hasher.putLong(fingerprint);
+        }
+        long result = hasher.hash().asLong();
+        localFingerprints.put(cls, result);
+        return result;
+    }
+
+    private static long computeMember(VnMember member) {
+        Hasher hasher = HASH.newHasher();
+        putString(hasher, member.name());
+        putString(hasher, member.verbnetKey());
+        hasher.putInt(member.wn().size());
+        for (WnKey key : member.wn()) {
+            putString(hasher, key.toString());
+            hasher.putBoolean(key.uncertain());
+        }
+        putStrings(hasher, member.features());
+        putStrings(hasher, member.groupings());
+        return hasher.hash().asLong();
+    }
+
+    private static long computeRole(VnThematicRole role) {
+        Hasher hasher = HASH.newHasher();
+        putString(hasher, role.type());
+        putRestrictions(hasher, role.restrictions());
+        return hasher.hash().asLong();
+    }
+
+    private static long computeFrame(VnFrame frame) {
+        Hasher hasher = HASH.newHasher();
+        VnFrameDescription description = frame.description();
+        putString(hasher, description.primary());
+        putString(hasher, description.secondary());
+        putString(hasher, description.descriptionNumber());
+        putString(hasher, description.xtag());
+        putStrings(hasher, frame.examples());
+
+        List<VnSyntax> syntax = frame.syntax();
+        hasher.putInt(syntax.size());
+        for (VnSyntax element : syntax) {
+            hasher.putInt(element.type().ordinal());
+            if (element instanceof VnNounPhrase) {
+                VnNounPhrase np = (VnNounPhrase) element;
+                putString(hasher, np.thematicRole());
+                putRestrictions(hasher, np.syntacticRestrictions());
+                putRestrictions(hasher, np.selectionalRestrictions());
+            } else if (element instanceof VnPrep) {
+                VnPrep prep = (VnPrep) element;
+                putStrings(hasher, prep.types());
+                putRestrictions(hasher, prep.restrictions());
+            } else if (element instanceof VnLex) {
+                putString(hasher, ((VnLex) element).value());
+            }
+        }
+
+        List<VnSemanticPredicate> predicates = frame.predicates();
+        hasher.putInt(predicates.size());
+        for (VnSemanticPredicate predicate : predicates) {
+            hasher.putInt(predicate.polarity().ordinal());
+            putString(hasher, predicate.type());
+            hasher.putInt(predicate.semanticArguments().size());
+            for (VnSemanticArgument argument : predicate.semanticArguments()) {
+                putString(hasher, argument.type());
+                putString(hasher, argument.value());
+            }
+        }
+        return hasher.hash().asLong();
+    }
+
+    private static void putRestrictions(Hasher hasher, List<VnRestrictions<String>> restrictions) {
+        hasher.putInt(restrictions.size());
+        for (VnRestrictions<String> restriction : restrictions) {
+            putStrings(hasher, restriction.include());
+            putStrings(hasher, restriction.exclude());
+        }
+    }
+
+    private static void putStrings(Hasher hasher, Collection<String> values) {
+        List<String> ordered = new ArrayList<>(values);
+        if (!(values instanceof List)) {
+            // unordered collections are hashed in sorted order
+            ordered.sort(null);
+        }
+        hasher.putInt(ordered.size());
+        for (String value : ordered) {
+            putString(hasher, value);
+        }
+    }
+
+    private static void putString(Hasher hasher, String value) {
+        if (null == value) {
+            hasher.putInt(-1);
+            return;
+        }
+        hasher.putInt(value.length());
+        hasher.putString(value, StandardCharsets.UTF_8);
+    }
+
+}
@@ -16,11 +16,40 @@
 
 package io.github.semlink.verbnet;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
+
+import io.github.semlink.verbnet.index.EffectiveRole;
+import io.github.semlink.verbnet.index.EventStructureIndex;
+import io.github.semlink.verbnet.index.ExampleIndex;
+import io.github.semlink.verbnet.index.FrameFeatureIndex;
+import io.github.semlink.verbnet.index.InflectionTable;
+import io.github.semlink.verbnet.index.LemmaTrie;
+import io.github.semlink.verbnet.index.PhrasalMatcher;
+import io.github.semlink.verbnet.index.PredicateSequenceIndex;
+import io.github.semlink.verbnet.index.RoleTable;
+import io.github.semlink.verbnet.index.RolesetMapping;
+import io.github.semlink.verbnet.index.SyntaxPatternIndex;
+import io.github.semlink.verbnet.index.VnClassIdIndex;
+import io.github.semlink.verbnet.index.VnOrdinals;
+import io.github.semlink.verbnet.index.WordNetIndex;
+import io.github.semlink.verbnet.memory.FootprintEstimator;
+import io.github.semlink.verbnet.memory.VnFootprint;
+import io.github.semlink.verbnet.query.VnQuery;
 
 /**
  * VerbNet index providing methods for retrieving VerbNet classes and members.
+ * <p>
+ * Secondary index accessors such as {@link #ordinals()}, {@link #roleTable()} or {@link #classIdIndex()} have default
+ * implementations that build a new index from {@link #roots()} on every call. Lookups such as {@link
+ * #effectiveRole(VnClass, String)} go through these accessors, so implementations should override them to build each
+ * index once and return the same instance, as {@link DefaultVnIndex} does.
  *
  * @author jamesgung
  */
@@ -56,9 +85,268 @@ public interface VnIndex {
      */
     Set<VnMember> getMembersByWordNetKey(WnKey wnKey);
 
+    /**
+     * Return the set of {@link VnClass class} {@link VnMember members} for a raw WordNet sense key, e.g. "climb%2:38:01::".
+     */
+    default Set<VnMember> getMembersByWordNetKey(String senseKey) {
+        return WnKey.parseWordNetKey(senseKey).map(this::getMembersByWordNetKey).orElse(Collections.emptySet());
+    }
+
     /**
      * Return the set of {@link WnKey WordNet keys/senses} for a given lemma.
      */
     Set<WnKey> getWordNetKeysByLemma(String lemma);
 
+    /**
+     * Return the set of {@link VnClass class} {@link VnMember members} with a given OntoNotes grouping or PropBank
+     * roleset, e.g. "sever.01".
+     */
+    default Set<VnMember> getMembersByGrouping(String grouping) {
+        Set<VnMember> members = new LinkedHashSet<>();
+        for (VnClass root : roots()) {
+            for (VnClass cls : root.descendants(true)) {
+                for (VnMember member : cls.members()) {
+                    if (member.groupings().contains(grouping)) {
+                        members.add(member);
+                    }
+                }
+            }
+        }
+        return members;
+    }
+
+    /**
+     * Return the set of {@link VnClass class} {@link VnMember members} with a given feature, e.g. "increase" or
+     * "+increase". Implementations may index features when constructed, so features changed afterwards are not
+     * reflected.
+     */
+    default Set<VnMember> getMembersByFeature(String feature) {
+        String value = feature.startsWith("+") ? feature.substring(1) : feature;
+        Set<VnMember> members = new LinkedHashSet<>();
+        for (VnClass root : roots()) {
+            for (VnClass cls : root.descendants(true)) {
+                for (VnMember member : cls.members()) {
+                    if (member.features().contains(value)) {
+                        members.add(member);
+                    }
+                }
+            }
+        }
+        return members;
+    }
+
+    /**
+     * Return the {@link VnMember member} with a given VerbNet key, e.g. "sever#2", or null if there is none.
+     */
+    default VnMember getMemberByVerbnetKey(String verbnetKey) {
+        for (VnClass root : roots()) {
+            for (VnClass cls : root.descendants(true)) {
+                for (VnMember member : cls.members()) {
+                    if (verbnetKey.equals(member.verbnetKey())) {
+                        return member;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Return the {@link VnClass classes} mapped to a given OntoNotes grouping or PropBank roleset, e.g. "sever.01",
+     * through their members, each with its thematic roles including inherited roles.
+     */
+    default Set<RolesetMapping> getRolesetMappings(String roleset) {
+        Map<VnClass, List<VnMember>> classMembers = new LinkedHashMap<>();
+        for (VnMember member : getMembersByGrouping(roleset)) {
+            classMembers.computeIfAbsent(member.verbClass(), cls -> new ArrayList<>()).add(member);
+        }
+        Set<RolesetMapping> mappings = new LinkedHashSet<>();
+        classMembers.forEach((cls, members) -> mappings.add(
+                new RolesetMapping(roleset, cls, members, cls.rolesIncludeInherited())));
+        return mappings;
+    }
+
+    /**
+     * Return the effective thematic role of a given type for a class, with inherited roles and subclass overrides
+     * resolved, or null if the class neither declares nor inherits it.
+     *
+     * @param verbClass class in this {@link VnIndex}
+     * @param type      role type, e.g. "Agent"
+     * @return effective role, or null
+     */
+    default EffectiveRole effectiveRole(VnClass verbClass, String type) {
+        return roleTable().effectiveRole(verbClass, type);
+    }
+
+    /**
+     * Return the {@link RoleTable table} of effective thematic roles for every class in this {@link VnIndex}.
+     */
+    default RoleTable roleTable() {
+        return new RoleTable(ordinals());
+    }
+
+    /**
+     * Return the {@link EventStructureIndex subevent ordering graphs} of all frames in this {@link VnIndex}.
+     */
+    default EventStructureIndex eventStructureIndex() {
+        return new EventStructureIndex(ordinals());
+    }
+
+    /**
+     * Return {@link WordNetIndex secondary indexes} from the WordNet keys of all members in this {@link VnIndex} to members
+     * and classes, by key, sense key string, lexical file, synset type and WordNet lemma.
+     */
+    default WordNetIndex wordNetIndex() {
+        return new WordNetIndex(ordinals());
+    }
+
+    /**
+     * Return a set of {@link VnClass classes} corresponding to an inflected or base form of a verb, e.g. "ran" or
+     * "climbs", using the {@link #inflectionTable() inflection table} instead of a lemmatizer.
+     */
+    default Set<VnClass> getBySurfaceForm(String form) {
+        List<String> lemmas = inflectionTable().lemmas(form);
+        if (lemmas.isEmpty()) {
+            return Collections.emptySet();
+        } else if (lemmas.size() == 1) {
+            return getByLemma(lemmas.get(0));
+        }
+        Set<VnClass> classes = new LinkedHashSet<>();
+        for (String lemma : lemmas) {
+            classes.addAll(getByLemma(lemma));
+        }
+        return classes;
+    }
+
+    /**
+     * Return a {@link InflectionTable table} from the inflected forms of all members in this {@link VnIndex} to their base
+     * lemmas.
+     */
+    default InflectionTable inflectionTable() {
+        return new InflectionTable(ordinals());
+    }
+
+    /**
+     * Return all classes with a given ID or nested under it in ID order, e.g. "45" for all classes in section 45.
+     */
+    default List<VnClass> getByIdPrefix(String prefix) {
+        return classIdIndex().prefix(prefix);
+    }
+
+    /**
+     * Return all classes from a given ID through another ID in ID order, including the classes nested under the upper
+     * ID, e.g. "45.4" through "45.6".
+     */
+    default List<VnClass> getByIdRange(String from, String to) {
+        return classIdIndex().range(from, to);
+    }
+
+    /**
+     * Return a {@link VnClassIdIndex sorted index} over the IDs of all classes in this {@link VnIndex}, for prefix, range
+     * and neighbor lookups.
+     */
+    default VnClassIdIndex classIdIndex() {
+        return new VnClassIdIndex(ordinals());
+    }
+
+    /**
+     * Return a {@link LemmaTrie trie} over the base lemmas and full names of all members in this {@link VnIndex}, for
+     * prefix and misspelling-tolerant lookups.
+     */
+    default LemmaTrie lemmaTrie() {
+        return new LemmaTrie(ordinals());
+    }
+
+    /**
+     * Return a {@link PhrasalMatcher matcher} for finding the multi-word members of this {@link VnIndex}, e.g. "go_on", in
+     * lemmatized text.
+     */
+    default PhrasalMatcher phrasalMatcher() {
+        return new PhrasalMatcher(ordinals());
+    }
+
+    /**
+     * Return a {@link SyntaxPatternIndex trie} over the syntax of all frames in this {@link VnIndex}, for matching observed
+     * constituent sequences.
+     */
+    default SyntaxPatternIndex syntaxPatternIndex() {
+        return new SyntaxPatternIndex(ordinals());
+    }
+
+    /**
+     * Return an {@link PredicateSequenceIndex index} over the semantic predicate sequences of all frames in this {@link
+     * VnIndex}.
+     */
+    default PredicateSequenceIndex predicateSequenceIndex() {
+        return new PredicateSequenceIndex(ordinals());
+    }
+
+    /**
+     * Start a structured {@link VnQuery query} over the classes and frames in this {@link VnIndex}.
+     */
+    default VnQuery query() {
+        return new VnQuery(this);
+    }
+
+    /**
+     * Return content {@link VnFingerprints fingerprints} for the classes, members, roles and frames in this {@link VnIndex}.
+     */
+    default VnFingerprints fingerprints() {
+        return new VnFingerprints(roots());
+    }
+
+    /**
+     * Return dense {@link VnOrdinals ordinals} for the classes and frames in this {@link VnIndex}, as used by its secondary
+     * indexes.
+     */
+    default VnOrdinals ordinals() {
+        return new VnOrdinals(roots());
+    }
+
+    /**
+     * Return a stream over all {@link VnClass classes} in this {@link VnIndex}, each root followed by its descendants in
+     * pre-order. The default walks {@link #roots()}; {@link DefaultVnIndex} streams its {@link VnOrdinals ordinals}
+     * instead, which split evenly when made {@link Stream#parallel() parallel}.
+     */
+    default Stream<VnClass> allClasses() {
+        return roots().stream().flatMap(root -> root.descendants(true).stream());
+    }
+
+    /**
+     * Return a stream over the {@link VnMember members} declared by all classes in this {@link VnIndex}, in class order.
+     */
+    default Stream<VnMember> allMembers() {
+        return allClasses().flatMap(cls -> cls.members().stream());
+    }
+
+    /**
+     * Return a stream over the {@link VnFrame frames} declared by all classes in this {@link VnIndex}, in class order.
+     */
+    default Stream<VnFrame> allFrames() {
+        return allClasses().flatMap(cls -> cls.frames().stream());
+    }
+
+    /**
+     * Return a full-text {@link ExampleIndex index} over the example sentences of all frames in this {@link VnIndex}.
+     */
+    default ExampleIndex exampleIndex() {
+        return new ExampleIndex(ordinals());
+    }
+
+    /**
+     * Return {@link FrameFeatureIndex inverted indexes} from thematic roles, predicates, prepositions and restrictions to
+     * the frames in this {@link VnIndex}.
+     */
+    default FrameFeatureIndex frameFeatureIndex() {
+        return new FrameFeatureIndex(ordinals());
+    }
+
+    /**
+     * Return an estimate of the heap retained by this {@link VnIndex}, broken down by component (classes, frames, examples,
+     * restrictions, WordNet keys, and any index structures). This walks the entire index, so should not be called often.
+     */
+    default VnFootprint footprint() {
+        return new FootprintEstimator().measure(roots(), FootprintEstimator.CLASSES).report();
+    }
+
 }
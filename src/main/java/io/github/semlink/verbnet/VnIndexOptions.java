@@ -0,0 +1,94 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+/**
+ * Options controlling which secondary indexes a {@link DefaultVnIndex} builds eagerly at construction. Indexes that are
+ * not built eagerly are built on first use. Also controls optional diagnostics logged after construction.
+ *
+ * @author jgung
+ */
+@Data
+@Accessors(fluent = true)
+public class VnIndexOptions {
+
+    /**
+     * If true, the full-text {@link io.github.semlink.verbnet.index.ExampleIndex example index} is built at construction.
+     */
+    private boolean indexExamples = false;
+
+    /**
+     * If true, the {@link io.github.semlink.verbnet.index.FrameFeatureIndex inverted indexes} from roles, predicates,
+     * prepositions and restrictions to frames are built at construction.
+     */
+    private boolean indexFrameFeatures = false;
+
+    /**
+     * If true, the {@link io.github.semlink.verbnet.index.SyntaxPatternIndex syntax pattern trie} is built at
+     * construction.
+     */
+    private boolean indexSyntaxPatterns = false;
+
+    /**
+     * If true, the {@link io.github.semlink.verbnet.index.PredicateSequenceIndex predicate sequence index} is built at
+     * construction.
+     */
+    private boolean indexPredicateSequences = false;
+
+    /**
+     * If true, the {@link io.github.semlink.verbnet.index.VnClassIdIndex sorted class ID index} is built at construction.
+     */
+    private boolean indexClassIds = false;
+
+    /**
+     * If true, the {@link io.github.semlink.verbnet.index.LemmaTrie lemma trie} for prefix and fuzzy lookups is built at
+     * construction.
+     */
+    private boolean indexLemmaTrie = false;
+
+    /**
+     * If true, the {@link io.github.semlink.verbnet.index.PhrasalMatcher phrasal member matcher} is built at construction.
+     */
+    private boolean indexPhrasalMembers = false;
+
+    /**
+     * If true, the {@link io.github.semlink.verbnet.index.InflectionTable inflection table} used for surface form lookups
+     * is built at construction.
+     */
+    private boolean indexInflections = false;
+
+    /**
+     * If true, the {@link io.github.semlink.verbnet.index.RoleTable effective role table} is built at construction.
+     */
+    private boolean indexEffectiveRoles = false;
+
+    /**
+     * If true, the {@link io.github.semlink.verbnet.index.EventStructureIndex subevent ordering graphs} of all frames are
+     * built at construction.
+     */
+    private boolean indexEventStructure = false;
+
+    /**
+     * If true, an estimated {@link io.github.semlink.verbnet.memory.VnFootprint memory footprint} is logged at debug level
+     * after construction. Estimating the footprint walks the entire object graph, so it is off by default.
+     */
+    private boolean logFootprint = false;
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet;
+
+import java.io.InputStream;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.github.semlink.verbnet.memory.FootprintEstimator;
+import io.github.semlink.verbnet.memory.VnFootprint;
+import io.github.semlink.verbnet.xml.VerbNetXmlFactory;
+import io.github.semlink.verbnet.xml.XmlCanonicalizer;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Registry of {@link VnIndex indices} for multiple VerbNet versions, e.g. "3.2", "3.3" and "3.4", retrieved by version
+ * name. Structurally identical members, thematic roles, frame contents and restriction trees are shared across all
+ * registered versions using a single {@link XmlCanonicalizer}, so shared parts are only stored once.
+ *
+ * @author jgung
+ */
+@Slf4j
+public class VnIndexRegistry {
+
+    private static final String INDEX = "index";
+
+    private final XmlCanonicalizer canonicalizer = new XmlCanonicalizer();
+    private final Map<String, VnIndex> indices = new LinkedHashMap<>();
+
+    /**
+     * Register a new version from a path to a VerbNet XML directory.
+     */
+    public VnIndex registerDirectory(@NonNull String version, @NonNull String path) {
+        return register(version, VerbNetXmlFactory.readFromDirectory(Paths.get(path)));
+    }
+
+    /**
+     * Register a new version from a given XML input stream.
+     */
+    public VnIndex registerInputStream(@NonNull String version, @NonNull InputStream xmlInputStream) {
+        return register(version, VerbNetXmlFactory.readVerbNet(xmlInputStream));
+    }
+
+    /**
+     * Register a new version from a list of root {@link VnClass classes}, sharing their contents with those of
+     * previously registered versions. The given classes should not be modified afterwards.
+     *
+     * @param version name of version, e.g. "3.3"
+     * @param classes root classes of version
+     * @return index for the registered version
+     */
+    public synchronized VnIndex register(@NonNull String version, @NonNull List<VnClass> classes) {
+        if (indices.containsKey(version)) {
+            throw new IllegalArgumentException("VerbNet version already registered: " + version);
+        }
+        VnIndex index = new DefaultVnIndex(canonicalizer.canonicalize(classes));
+        indices.put(version, index);
+        if (log.isDebugEnabled()) {
+            long shared = canonicalizer.sharedCounts().values().stream().mapToLong(Long::longValue).sum();
+            log.debug("Registered VerbNet version {}, {} instances shared across {} versions", version, shared,
+                    indices.size());
+        }
+        return index;
+    }
+
+    /**
+     * Return the {@link VnIndex} for a given version, or null if no such version is registered.
+     */
+    public synchronized VnIndex get(String version) {
+        return indices.get(version);
+    }
+
+    /**
+     * Return the names of all registered versions, in order of registration.
+     */
+    public synchronized List<String> versions() {
+        return Collections.unmodifiableList(new ArrayList<>(indices.keySet()));
+    }
+
+    /**
+     * Return the number of duplicate instances replaced by shared instances, by kind of object, e.g. "role".
+     */
+    public synchronized Map<String, Long> sharedCounts() {
+        return canonicalizer.sharedCounts();
+    }
+
+    /**
+     * Return the estimated combined footprint of all registered versions, counting shared objects once.
+     */
+    public synchronized VnFootprint footprint() {
+        FootprintEstimator estimator = new FootprintEstimator();
+        for (VnIndex index : indices.values()) {
+            estimator.measure(index, INDEX);
+        }
+        return estimator.report();
+    }
+
+    /**
+     * Return the estimated number of bytes saved by sharing, i.e. the sum of each version's individual footprint, minus
+     * the combined {@link #footprint() footprint} of all versions.
+     */
+    public synchronized long sharedBytes() {
+        long separate = 0;
+        for (VnIndex index : indices.values()) {
+            separate += new FootprintEstimator().measure(index, INDEX).report().totalBytes();
+        }
+        return separate - footprint().totalBytes();
+    }
+
+}
@@ -18,6 +18,7 @@ package io.github.semlink.verbnet;
 
 import java.util.List;
 
+import io.github.semlink.verbnet.semantics.FeatureBinding;
 import io.github.semlink.verbnet.semantics.VnSemanticPredicate;
 
 /**
@@ -58,4 +59,13 @@ public interface VnMember {
      */
     VnClass verbClass();
 
+    /**
+     * Return the frames of this member's {@link VnClass class}, including inherited frames, with verb-specific
+     * semantic arguments such as "V_Direction" bound to the {@link #features() features} of this member. Frames without
+     * verb-specific arguments are shared with the class.
+     */
+    default List<VnFrame> framesIncludeInherited() {
+        return FeatureBinding.bind(verbClass().framesIncludeInherited(), features());
+    }
+
 }
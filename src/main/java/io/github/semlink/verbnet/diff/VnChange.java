@@ -0,0 +1,109 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.diff;
+
+import io.github.semlink.verbnet.VnClass;
+import io.github.semlink.verbnet.VnFrame;
+import io.github.semlink.verbnet.VnMember;
+import io.github.semlink.verbnet.VnThematicRole;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+
+/**
+ * Single change between two versions of a VerbNet index, e.g. a member added to a class.
+ *
+ * @param <T> type of changed element, e.g. {@link VnMember}
+ * @author jgung
+ */
+@Getter
+@Accessors(fluent = true)
+@AllArgsConstructor
+public class VnChange<T> {
+
+    /**
+     * Type of change.
+     */
+    private final Type type;
+    /**
+     * Class containing the changed element in the old index, or null if added.
+     */
+    private final VnClass beforeClass;
+    /**
+     * Class containing the changed element in the new index, or null if removed.
+     */
+    private final VnClass afterClass;
+    /**
+     * Changed element in the old index, or null if added.
+     */
+    private final T before;
+    /**
+     * Changed element in the new index, or null if removed.
+     */
+    private final T after;
+
+    @Override
+    public String toString() {
+        String name = name(null == after ? before : after);
+        if (type == Type.MEMBER_MOVED) {
+            return String.format("%s %s: %s -> %s", type, name, beforeClass.verbNetId(), afterClass.verbNetId());
+        }
+        return String.format("%s %s: %s", type, name, (null == afterClass ? beforeClass : afterClass).verbNetId());
+    }
+
+    private static String name(Object element) {
+        if (element instanceof VnClass) {
+            return ((VnClass) element).verbNetId().toString();
+        } else if (element instanceof VnMember) {
+            return ((VnMember) element).name();
+        } else if (element instanceof VnThematicRole) {
+            return ((VnThematicRole) element).type();
+        } else if (element instanceof VnFrame) {
+            return ((VnFrame) element).description().primary();
+        }
+        return String.valueOf(element);
+    }
+
+    public enum Type {
+        CLASS_ADDED,
+        CLASS_REMOVED,
+        MEMBER_ADDED,
+        MEMBER_REMOVED,
+        /**
+         * Member removed from one class and added to another.
+         */
+        MEMBER_MOVED,
+        /**
+         * Member features, groupings or VerbNet key changed.
+         */
+        MEMBER_CHANGED,
+        /**
+         * WordNet keys mapped to a member changed.
+         */
+        WORDNET_KEYS_CHANGED,
+        ROLE_ADDED,
+        ROLE_REMOVED,
+        /**
+         * Selectional restrictions of a thematic role changed.
+         */
+        RESTRICTIONS_CHANGED,
+        FRAME_ADDED,
+        FRAME_REMOVED,
+        FRAME_CHANGED
+    }
+
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.diff;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import io.github.semlink.verbnet.VnClass;
+import io.github.semlink.verbnet.VnFingerprints;
+import io.github.semlink.verbnet.VnFrame;
+import io.github.semlink.verbnet.VnIndex;
+import io.github.semlink.verbnet.VnMember;
+import io.github.semlink.verbnet.VnThematicRole;
+import io.github.semlink.verbnet.WnKey;
+import io.github.semlink.verbnet.diff.VnChange.Type;
+import lombok.NonNull;
+
+/**
+ * Computes the {@link VnChange changes} between two {@link VnIndex indices}, e.g. consecutive VerbNet releases. Classes
+ * are matched by ID, and subtrees with equal {@link VnFingerprints fingerprints} are skipped, so the cost of a diff is
+ * proportional to the number of root classes plus the size of the changed classes. Members are matched by name, roles
+ * by type, and frames by content, then by description.
+ *
+ * @author jgung
+ */
+public class VnDiff {
+
+    private final VnFingerprints before;
+    private final VnFingerprints after;
+    private final List<VnChange<?>> changes = new ArrayList<>();
+    private final Map<String, Deque<MemberChange>> removedMembers = new LinkedHashMap<>();
+    private final Map<String, Deque<MemberChange>> addedMembers = new LinkedHashMap<>();
+
+    private VnDiff(VnFingerprints before, VnFingerprints after) {
+        this.before = before;
+        this.after = after;
+    }
+
+    /**
+     * Return all changes between two indices.
+     *
+     * @param before old index
+     * @param after  new index
+     * @return list of changes, empty if the indices have identical content
+     */
+    public static List<VnChange<?>> diff(@NonNull VnIndex before, @NonNull VnIndex after) {
+        VnDiff diff = new VnDiff(before.fingerprints(), after.fingerprints());
+        if (diff.before.index() == diff.after.index()) {
+            return Collections.emptyList();
+        }
+        diff.diffClasses(before.roots(), after.roots());
+        diff.resolveMembers();
+        return diff.changes;
+    }
+
+    private void diffClasses(List<VnClass> beforeClasses, List<VnClass> afterClasses) {
+        Map<String, VnClass> afterById = new HashMap<>();
+        for (VnClass cls : afterClasses) {
+            afterById.put(cls.verbNetId().classId(), cls);
+        }
+        for (VnClass old : beforeClasses) {
+            VnClass updated = afterById.remove(old.verbNetId().classId());
+            if (null == updated) {
+                changes.add(new VnChange<>(Type.CLASS_REMOVED, old, null, old, null));
+                for (VnClass cls : old.descendants(true)) {
+                    for (VnMember member : cls.members()) {
+                        put(removedMembers, new MemberChange(member, cls, false));
+                    }
+                }
+            } else if (before.subtree(old) != after.subtree(updated)) {
+                if (before.local(old) != after.local(updated)) {
+                    diffMembers(old, updated);
+                    diffRoles(old, updated);
+                    diffFrames(old, updated);
+                }
+                diffClasses(old.subclasses(), updated.subclasses());
+            }
+        }
+        for (VnClass cls : afterClasses) {
+            if (afterById.containsKey(cls.verbNetId().classId())) {
+                changes.add(new VnChange<>(Type.CLASS_ADDED, null, cls, null, cls));
+                for (VnClass added : cls.descendants(true)) {
+                    for (VnMember member : added.members()) {
+                        put(addedMembers, new MemberChange(member, added, false));
+                    }
+                }
+            }
+        }
+    }
+
+    private void diffMembers(VnClass old, VnClass updated) {
+        Map<String, VnMember> afterByName = new LinkedHashMap<>();
+        for (VnMember member : updated.members()) {
+            afterByName.putIfAbsent(member.name(), member);
+        }
+        for (VnMember member : old.members()) {
+            VnMember match = afterByName.remove(member.name());
+            if (null == match) {
+                put(removedMembers, new MemberChange(member, old, true));
+            } else if (before.member(member) != after.member(match)) {
+                if (!sameWordNetKeys(member.wn(), match.wn())) {
+                    changes.add(new VnChange<>(Type.WORDNET_KEYS_CHANGED, old, updated, member, match));
+                }
+                if (!Objects.equals(member.features(), match.features())
+                        || !Objects.equals(member.groupings(), match.groupings())
+                        || !Objects.equals(member.verbnetKey(), match.verbnetKey())) {
+                    changes.add(new VnChange<>(Type.MEMBER_CHANGED, old, updated, member, match));
+                }
+            }
+        }
+        for (VnMember member : afterByName.values()) {
+            put(addedMembers, new MemberChange(member, updated, true));
+        }
+    }
+
+    private static boolean sameWordNetKeys(List<WnKey> before, List<WnKey> after) {
+        // WnKey equality ignores uncertainty, which is fingerprinted and so must be compared as well
+        if (before.size() != after.size()) {
+            return false;
+        }
+        for (int i = 0; i < before.size(); ++i) {
+            if (!before.get(i).equals(after.get(i)) || before.get(i).uncertain() != after.get(i).uncertain()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void diffRoles(VnClass old, VnClass updated) {
+        Map<String, VnThematicRole> afterByType = new LinkedHashMap<>();
+        for (VnThematicRole role : updated.roles()) {
+            afterByType.putIfAbsent(role.type(), role);
+        }
+        for (VnThematicRole role : old.roles()) {
+            VnThematicRole match = afterByType.remove(role.type());
+            if (null == match) {
+                changes.add(new VnChange<>(Type.ROLE_REMOVED, old, updated, role, null));
+            } else if (before.role(role) != after.role(match)) {
+                changes.add(new VnChange<>(Type.RESTRICTIONS_CHANGED, old, updated, role, match));
+            }
+        }
+        for (VnThematicRole role : afterByType.values()) {
+            changes.add(new VnChange<>(Type.ROLE_ADDED, old, updated, null, role));
+        }
+    }
+
+    private void diffFrames(VnClass old, VnClass updated) {
+        // frames with identical content in both are unchanged
+        Map<Long, Deque<VnFrame>> afterByFingerprint = new HashMap<>();
+        for (VnFrame frame : updated.frames()) {
+            afterByFingerprint.computeIfAbsent(after.frame(frame), key -> new ArrayDeque<>()).add(frame);
+        }
+        List<VnFrame> removed = new ArrayList<>();
+        for (VnFrame frame : old.frames()) {
+            Deque<VnFrame> matches = afterByFingerprint.get(before.frame(frame));
+            if (null == matches || null == matches.poll()) {
+                removed.add(frame);
+            }
+        }
+        List<VnFrame> added = new ArrayList<>();
+        for (VnFrame frame : updated.frames()) {
+            Deque<VnFrame> matches = afterByFingerprint.get(after.frame(frame));
+            if (null != matches && matches.remove(frame)) {
+                added.add(frame);
+            }
+        }
+        // remaining frames with the same description are considered changed
+        for (VnFrame frame : removed) {
+            VnFrame match = null;
+            for (VnFrame candidate : added) {
+                if (Objects.equals(frame.description().primary(), candidate.description().primary())
+                        && Objects.equals(frame.description().descriptionNumber(),
+                        candidate.description().descriptionNumber())) {
+                    match = candidate;
+                    break;
+                }
+            }
+            if (null == match) {
+                changes.add(new VnChange<>(Type.FRAME_REMOVED, old, updated, frame, null));
+            } else {
+                added.remove(match);
+                changes.add(new VnChange<>(Type.FRAME_CHANGED, old, updated, frame, match));
+            }
+        }
+        for (VnFrame frame : added) {
+            changes.add(new VnChange<>(Type.FRAME_ADDED, old, updated, null, frame));
+        }
+    }
+
+    private void resolveMembers() {
+        for (Map.Entry<String, Deque<MemberChange>> entry : removedMembers.entrySet()) {
+            Deque<MemberChange> added = addedMembers.getOrDefault(entry.getKey(), new ArrayDeque<>());
+            for (MemberChange removed : entry.getValue()) {
+                MemberChange match = added.poll();
+                if (null != match) {
+                    changes.add(new VnChange<>(Type.MEMBER_MOVED, removed.cls, match.cls, removed.member,
+                            match.member));
+                } else if (removed.reported) {
+                    changes.add(new VnChange<>(Type.MEMBER_REMOVED, removed.cls, null, removed.member, null));
+                }
+            }
+        }
+        for (Deque<MemberChange> remaining : addedMembers.values()) {
+            for (MemberChange added : remaining) {
+                if (added.reported) {
+                    changes.add(new VnChange<>(Type.MEMBER_ADDED, null, added.cls, null, added.member));
+                }
+            }
+        }
+    }
+
+    private static void put(Map<String, Deque<MemberChange>> members, MemberChange change) {
+        members.computeIfAbsent(change.member.name(), key -> new ArrayDeque<>()).add(change);
+    }
+
+    /**
+     * Member added to or removed from a class, reported unless the entire class was added or removed.
+     */
+    private static class MemberChange {
+
+        private final VnMember member;
+        private final VnClass cls;
+        private final boolean reported;
+
+        private MemberChange(VnMember member, VnClass cls, boolean reported) {
+            this.member = member;
+            this.cls = cls;
+            this.reported = reported;
+        }
+
+    }
+
+}
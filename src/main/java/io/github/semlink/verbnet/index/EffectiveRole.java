@@ -0,0 +1,57 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.index;
+
+import java.util.List;
+
+import io.github.semlink.verbnet.VnClass;
+import io.github.semlink.verbnet.VnThematicRole;
+import io.github.semlink.verbnet.restrictions.VnRestrictions;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+
+/**
+ * Thematic role as it applies to a class once inheritance is resolved, found in a {@link RoleTable}.
+ *
+ * @author jgung
+ */
+@Getter
+@Accessors(fluent = true)
+@AllArgsConstructor
+public class EffectiveRole implements VnThematicRole {
+
+    /**
+     * Type of thematic role, e.g. "Agent".
+     */
+    private final String type;
+    /**
+     * Nearest class declaring this role, which may be an ancestor of the class it applies to.
+     */
+    private final VnClass declaringClass;
+    /**
+     * Selectional restrictions in disjunctive normal form: the role is satisfied by any one of the conjunctions. Empty
+     * if the role is unrestricted.
+     */
+    private final List<VnRestrictions<String>> restrictions;
+
+    @Override
+    public String toString() {
+        return type + " " + restrictions + " (" + declaringClass.verbNetId() + ")";
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.index;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.github.semlink.verbnet.VnFrame;
+import io.github.semlink.verbnet.semantics.SubeventGraph;
+import lombok.NonNull;
+
+/**
+ * Precomputed {@link SubeventGraph subevent ordering graphs} for the frames of all classes, so that event-structure
+ * queries run over bit sets built once at load time rather than re-parsing argument strings.
+ *
+ * @author jgung
+ */
+public final class EventStructureIndex {
+
+    private final VnOrdinals ordinals;
+    private final SubeventGraph[] graphs;
+    private final Map<VnFrame, Integer> frameOrdinals = new IdentityHashMap<>();
+
+    public EventStructureIndex(@NonNull VnOrdinals ordinals) {
+        this.ordinals = ordinals;
+        this.graphs = new SubeventGraph[ordinals.frameCount()];
+        for (int frame = 0; frame < graphs.length; ++frame) {
+            graphs[frame] = SubeventGraph.of(ordinals.frame(frame));
+            frameOrdinals.put(ordinals.frame(frame), frame);
+        }
+    }
+
+    /**
+     * Return the subevent graph of a frame declared by a class in the index, or null if the frame is not indexed.
+     */
+    public SubeventGraph graph(@NonNull VnFrame frame) {
+        Integer ordinal = frameOrdinals.get(frame);
+        return null == ordinal ? null : graphs[ordinal];
+    }
+
+    /**
+     * Return the subevent graph of the frame with a given {@link VnOrdinals ordinal}.
+     */
+    public SubeventGraph graph(int frameOrdinal) {
+        return graphs[frameOrdinal];
+    }
+
+    /**
+     * Return all frames in which one subevent precedes another, directly or transitively, in class and frame order.
+     *
+     * @param first  earlier subevent index, e.g. 2 for "e2"
+     * @param second later subevent index
+     * @return matching frames
+     */
+    public List<VnFrame> framesWhere(int first, int second) {
+        List<VnFrame> result = new ArrayList<>();
+        for (int frame = 0; frame < graphs.length; ++frame) {
+            if (graphs[frame].precedes(first, second)) {
+                result.add(ordinals.frame(frame));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Return the number of indexed frames.
+     */
+    public int size() {
+        return graphs.length;
+    }
+
+}
@@ -0,0 +1,275 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import lombok.NonNull;
+
+/**
+ * Inverted index over the tokens of frame example sentences, supporting phrase and prefix queries. Each example is a
+ * document identified by its position in (class, frame, example) order. Postings of a term are stored as
+ * variable-length delta-encoded document identifiers, each followed by the term frequency and delta-encoded token
+ * positions, in a single byte array shared by all terms.
+ * <p>
+ * Examples are tokenized into lower-cased runs of letters and digits, so queries ignore case and punctuation.
+ *
+ * @author jgung
+ */
+public final class ExampleIndex {
+
+    private final VnOrdinals ordinals;
+    // document (example) ordinals of the first example of each frame, indexed by global frame ordinal
+    private final int[] firstExample;
+    private final int[] exampleFrame;
+    private final String[] terms;
+    private final int[] offsets;
+    private final byte[] postings;
+
+    public ExampleIndex(@NonNull VnOrdinals ordinals) {
+        this.ordinals = ordinals;
+        this.firstExample = new int[ordinals.frameCount() + 1];
+        Map<String, TermBuilder> builders = new TreeMap<>();
+        List<Integer> exampleFrame = new ArrayList<>();
+        int document = 0;
+        for (int frame = 0; frame < ordinals.frameCount(); ++frame) {
+            firstExample[frame] = document;
+            for (String example : ordinals.frame(frame).examples()) {
+                Map<String, List<Integer>> positions = new LinkedHashMap<>();
+                List<String> tokens = tokenize(example);
+                for (int position = 0; position < tokens.size(); ++position) {
+                    positions.computeIfAbsent(tokens.get(position), t -> new ArrayList<>()).add(position);
+                }
+                for (Map.Entry<String, List<Integer>> entry : positions.entrySet()) {
+                    builders.computeIfAbsent(entry.getKey(), t -> new TermBuilder()).add(document, entry.getValue());
+                }
+                exampleFrame.add(frame);
+                document++;
+            }
+        }
+        firstExample[ordinals.frameCount()] = document;
+        this.exampleFrame = exampleFrame.stream().mapToInt(Integer::intValue).toArray();
+
+        this.terms = builders.keySet().toArray(new String[0]);
+        this.offsets = new int[terms.length + 1];
+        int size = 0;
+        for (int i = 0; i < terms.length; ++i) {
+            offsets[i] = size;
+            size += builders.get(terms[i]).buffer.size();
+        }
+        offsets[terms.length] = size;
+        this.postings = new byte[size];
+        for (int i = 0; i < terms.length; ++i) {
+            byte[] bytes = builders.get(terms[i]).buffer.toByteArray();
+            System.arraycopy(bytes, 0, postings, offsets[i], bytes.length);
+        }
+    }
+
+    /**
+     * Split text into lower-cased tokens consisting of letters and digits, as done when indexing examples.
+     *
+     * @param text input text
+     * @return list of tokens
+     */
+    public static List<String> tokenize(@NonNull String text) {
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); ++i) {
+            boolean word = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (word && start < 0) {
+                start = i;
+            } else if (!word && start >= 0) {
+                tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Return the number of indexed examples.
+     */
+    public int size() {
+        return exampleFrame.length;
+    }
+
+    /**
+     * Return the number of distinct terms.
+     */
+    public int termCount() {
+        return terms.length;
+    }
+
+    /**
+     * Return all examples containing the tokens of a given phrase consecutively, e.g. "into pieces". A single-token phrase
+     * matches all examples containing that token.
+     *
+     * @param phrase query phrase
+     * @return matching examples, in class, frame, and example order
+     */
+    public List<ExampleMatch> phrase(@NonNull String phrase) {
+        List<String> tokens = tokenize(phrase);
+        if (tokens.isEmpty()) {
+            return Collections.emptyList();
+        }
+        TermPostings[] postings = new TermPostings[tokens.size()];
+        for (int i = 0; i < postings.length; ++i) {
+            int term = Arrays.binarySearch(terms, tokens.get(i));
+            if (term < 0) {
+                return Collections.emptyList();
+            }
+            postings[i] = decode(term);
+        }
+        List<ExampleMatch> result = new ArrayList<>();
+        TermPostings first = postings[0];
+        for (int d = 0; d < first.documents.length; ++d) {
+            int document = first.documents[d];
+            for (int start : first.positions[d]) {
+                if (matchesAt(postings, document, start)) {
+                    result.add(match(document));
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Return all examples containing a token starting with a given prefix, e.g. "shatt".
+     *
+     * @param prefix token prefix, matched case-insensitively
+     * @return matching examples, in class, frame, and example order
+     */
+    public List<ExampleMatch> prefix(@NonNull String prefix) {
+        String normalized = prefix.toLowerCase(Locale.ROOT);
+        int from = insertionPoint(normalized);
+        BitSet documents = new BitSet(size());
+        for (int term = from; term < terms.length && terms[term].startsWith(normalized); ++term) {
+            VarIntBuffer.Reader reader = new VarIntBuffer.Reader(postings, offsets[term], offsets[term + 1]);
+            int document = 0;
+            while (reader.hasNext()) {
+                document += reader.next();
+                documents.set(document);
+                int frequency = reader.next();
+                for (int i = 0; i < frequency; ++i) {
+                    reader.next();
+                }
+            }
+        }
+        List<ExampleMatch> result = new ArrayList<>(documents.cardinality());
+        for (int document = documents.nextSetBit(0); document >= 0; document = documents.nextSetBit(document + 1)) {
+            result.add(match(document));
+        }
+        return result;
+    }
+
+    /**
+     * Return all indexed terms starting with a given prefix, in lexicographic order.
+     *
+     * @param prefix term prefix, matched case-insensitively
+     * @return matching terms
+     */
+    public List<String> terms(@NonNull String prefix) {
+        String normalized = prefix.toLowerCase(Locale.ROOT);
+        List<String> result = new ArrayList<>();
+        for (int term = insertionPoint(normalized); term < terms.length && terms[term].startsWith(normalized); ++term) {
+            result.add(terms[term]);
+        }
+        return result;
+    }
+
+    private int insertionPoint(String term) {
+        int index = Arrays.binarySearch(terms, term);
+        return index < 0 ? -index - 1 : index;
+    }
+
+    private static boolean matchesAt(TermPostings[] postings, int document, int start) {
+        for (int i = 1; i < postings.length; ++i) {
+            int d = Arrays.binarySearch(postings[i].documents, document);
+            if (d < 0 || Arrays.binarySearch(postings[i].positions[d], start + i) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private ExampleMatch match(int document) {
+        int frame = exampleFrame[document];
+        int cls = ordinals.frameClass(frame);
+        return new ExampleMatch(ordinals.verbClass(cls), ordinals.frame(frame), ordinals.frameIndex(frame),
+                document - firstExample[frame]);
+    }
+
+    private TermPostings decode(int term) {
+        List<int[]> positions = new ArrayList<>();
+        List<Integer> documents = new ArrayList<>();
+        VarIntBuffer.Reader reader = new VarIntBuffer.Reader(postings, offsets[term], offsets[term + 1]);
+        int document = 0;
+        while (reader.hasNext()) {
+            document += reader.next();
+            int[] current = new int[reader.next()];
+            int position = 0;
+            for (int i = 0; i < current.length; ++i) {
+                position += reader.next();
+                current[i] = position;
+            }
+            documents.add(document);
+            positions.add(current);
+        }
+        return new TermPostings(documents.stream().mapToInt(Integer::intValue).toArray(),
+                positions.toArray(new int[0][]));
+    }
+
+    private static final class TermPostings {
+
+        private final int[] documents;
+        private final int[][] positions;
+
+        private TermPostings(int[] documents, int[][] positions) {
+            this.documents = documents;
+            this.positions = positions;
+        }
+
+    }
+
+    private static final class TermBuilder {
+
+        private final VarIntBuffer buffer = new VarIntBuffer();
+        private int lastDocument;
+
+        private void add(int document, List<Integer> positions) {
+            buffer.write(document - lastDocument);
+            buffer.write(positions.size());
+            int lastPosition = 0;
+            for (int position : positions) {
+                buffer.write(position - lastPosition);
+                lastPosition = position;
+            }
+            lastDocument = document;
+        }
+
+    }
+
+}
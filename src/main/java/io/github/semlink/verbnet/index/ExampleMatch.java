@@ -0,0 +1,64 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.index;
+
+import io.github.semlink.verbnet.VnClass;
+import io.github.semlink.verbnet.VnFrame;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+
+/**
+ * Frame example sentence matching an {@link ExampleIndex} query.
+ *
+ * @author jgung
+ */
+@Getter
+@Accessors(fluent = true)
+@AllArgsConstructor
+public class ExampleMatch {
+
+    /**
+     * Class containing the matching frame.
+     */
+    private final VnClass verbClass;
+    /**
+     * Frame containing the matching example.
+     */
+    private final VnFrame frame;
+    /**
+     * Position of the frame within {@link VnClass#frames()}.
+     */
+    private final int frameIndex;
+    /**
+     * Position of the example within {@link VnFrame#examples()}.
+     */
+    private final int exampleIndex;
+
+    /**
+     * Return the text of the matching example.
+     */
+    public String example() {
+        return frame.examples().get(exampleIndex);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[%d][%d]: %s", verbClass.verbNetId(), frameIndex, exampleIndex, example());
+    }
+
+}
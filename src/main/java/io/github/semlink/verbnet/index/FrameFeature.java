@@ -0,0 +1,54 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.index;
+
+/**
+ * Kinds of frame content indexed by a {@link FrameFeatureIndex}.
+ *
+ * @author jgung
+ */
+public enum FrameFeature {
+    /**
+     * Thematic role of an NP in the frame syntax, e.g. "Instrument".
+     */
+    ROLE,
+    /**
+     * Semantic predicate type, e.g. "cause".
+     */
+    PREDICATE,
+    /**
+     * Semantic predicate argument value, e.g. "Agent" or "e1".
+     */
+    ARGUMENT,
+    /**
+     * Preposition allowed by a PREP element in the frame syntax, e.g. "into".
+     */
+    PREPOSITION,
+    /**
+     * Selectional restriction on an NP (including those of its thematic role) or PREP, prefixed by its polarity, e.g.
+     * "+concrete" or "-animate".
+     */
+    SELECTIONAL_RESTRICTION,
+    /**
+     * Syntactic restriction on an NP, prefixed by its polarity, e.g. "+that_comp".
+     */
+    SYNTACTIC_RESTRICTION,
+    /**
+     * Sequence of syntax element types of the frame, e.g. "NP V NP PREP NP". See {@link FrameFeatureIndex#syntaxKey}.
+     */
+    SYNTAX
+}
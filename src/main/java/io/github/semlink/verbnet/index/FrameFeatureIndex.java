@@ -0,0 +1,320 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import io.github.semlink.verbnet.VnClass;
+import io.github.semlink.verbnet.VnFrame;
+import io.github.semlink.verbnet.VnThematicRole;
+import io.github.semlink.verbnet.restrictions.VnRestrictions;
+import io.github.semlink.verbnet.semantics.VnSemanticArgument;
+import io.github.semlink.verbnet.semantics.VnSemanticPredicate;
+import io.github.semlink.verbnet.syntax.VnNounPhrase;
+import io.github.semlink.verbnet.syntax.VnPrep;
+import io.github.semlink.verbnet.syntax.VnSyntax;
+import io.github.semlink.verbnet.syntax.VnSyntaxType;
+import lombok.NonNull;
+
+/**
+ * Inverted indexes from {@link FrameFeature frame features}, such as thematic roles, predicate types and prepositions,
+ * to the frames containing them. Frames are identified by their global {@link VnOrdinals frame ordinal}, which
+ * determines both the class ordinal and the position of the frame in its class. Postings of each key are stored as
+ * variable-length delta-encoded frame ordinals in a single byte array per feature.
+ *
+ * @author jgung
+ */
+public final class FrameFeatureIndex {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final VnOrdinals ordinals;
+    private final Map<FrameFeature, Postings> postings = new EnumMap<>(FrameFeature.class);
+
+    public FrameFeatureIndex(@NonNull VnOrdinals ordinals) {
+        this.ordinals = ordinals;
+        Map<FrameFeature, Map<String, PostingsBuilder>> builders = new EnumMap<>(FrameFeature.class);
+        Map<FrameFeature, Set<String>> keys = new EnumMap<>(FrameFeature.class);
+        for (FrameFeature feature : FrameFeature.values()) {
+            builders.put(feature, new TreeMap<>());
+            keys.put(feature, new LinkedHashSet<>());
+        }
+        for (int cls = 0; cls < ordinals.classCount(); ++cls) {
+            Map<String, VnThematicRole> roles = roles(ordinals.verbClass(cls));
+            for (int frame = ordinals.firstFrame(cls); frame < ordinals.endFrame(cls); ++frame) {
+                keys.values().forEach(Set::clear);
+                collect(ordinals.frame(frame), roles, keys);
+                for (Map.Entry<FrameFeature, Set<String>> entry : keys.entrySet()) {
+                    Map<String, PostingsBuilder> featureBuilders = builders.get(entry.getKey());
+                    for (String key : entry.getValue()) {
+                        featureBuilders.computeIfAbsent(key, k -> new PostingsBuilder()).add(frame);
+                    }
+                }
+            }
+        }
+        builders.forEach((feature, featureBuilders) -> postings.put(feature, new Postings(featureBuilders)));
+    }
+
+    /**
+     * Return the key used to index a restriction of a given type and polarity, e.g. "+concrete".
+     */
+    public static String restrictionKey(@NonNull String type, boolean include) {
+        return (include ? "+" : "-") + type;
+    }
+
+    /**
+     * Return the {@link FrameFeature#SYNTAX syntax key} of a space-separated syntax pattern such as "NP V NP PP". Pattern
+     * tokens are case-insensitive and may carry annotations after a "." or "(", e.g. "NP.instrument" or "PP(with)". "V"
+     * and "VERB" denote the verb, "P" and "PREP" a preposition, and "PP" a preposition followed by an NP.
+     *
+     * @param pattern syntax pattern
+     * @return syntax key
+     */
+    public static String syntaxKey(@NonNull String pattern) {
+        StringBuilder key = new StringBuilder();
+        for (String token : pattern.trim().split("\\s+")) {
+            if (token.isEmpty()) {
+                continue;
+            }
+            int end = token.length();
+            for (int i = 0; i < token.length(); ++i) {
+                if (token.charAt(i) == '.' || token.charAt(i) == '(') {
+                    end = i;
+                    break;
+                }
+            }
+            String type = token.substring(0, end).toUpperCase(Locale.ROOT);
+            if (type.equals("VERB")) {
+                type = "V";
+            } else if (type.equals("P")) {
+                type = "PREP";
+            } else if (type.equals("PP")) {
+                type = "PREP NP";
+            }
+            if (key.length() > 0) {
+                key.append(' ');
+            }
+            key.append(type);
+        }
+        return key.toString();
+    }
+
+    /**
+     * Return the {@link FrameFeature#SYNTAX syntax key} of a given list of frame syntax elements.
+     *
+     * @param syntax frame syntax
+     * @return syntax key
+     */
+    public static String syntaxKey(@NonNull List<VnSyntax> syntax) {
+        StringBuilder key = new StringBuilder();
+        for (VnSyntax element : syntax) {
+            if (key.length() > 0) {
+                key.append(' ');
+            }
+            key.append(element.type() == VnSyntaxType.VERB ? "V" : element.type().name());
+        }
+        return key.toString();
+    }
+
+    /**
+     * Return the ordinals of classes and frames used by this index.
+     */
+    public VnOrdinals ordinals() {
+        return ordinals;
+    }
+
+    /**
+     * Return all keys indexed for a given feature, in lexicographic order.
+     */
+    public List<String> keys(@NonNull FrameFeature feature) {
+        return Collections.unmodifiableList(Arrays.asList(postings.get(feature).keys));
+    }
+
+    /**
+     * Return the number of frames with a given feature value, without decoding its postings.
+     *
+     * @param feature feature type
+     * @param key     feature value, e.g. "Instrument" for {@link FrameFeature#ROLE}; restrictions without a leading "+" or
+     *                "-" are treated as included restrictions, and syntax is given as a {@link #syntaxKey(String) pattern}
+     * @return number of matching frames
+     */
+    public int count(@NonNull FrameFeature feature, @NonNull String key) {
+        Postings featurePostings = postings.get(feature);
+        int index = featurePostings.find(normalize(feature, key));
+        return index < 0 ? 0 : featurePostings.counts[index];
+    }
+
+    /**
+     * Return the global ordinals of all frames with a given feature value, in ascending order.
+     *
+     * @param feature feature type
+     * @param key     feature value, e.g. "Instrument" for {@link FrameFeature#ROLE}; restrictions without a leading "+" or
+     *                "-" are treated as included restrictions, and syntax is given as a {@link #syntaxKey(String) pattern}
+     * @return new array of matching frame ordinals
+     */
+    public int[] frameOrdinals(@NonNull FrameFeature feature, @NonNull String key) {
+        Postings featurePostings = postings.get(feature);
+        int index = featurePostings.find(normalize(feature, key));
+        if (index < 0) {
+            return EMPTY;
+        }
+        int[] result = new int[featurePostings.counts[index]];
+        VarIntBuffer.Reader reader = new VarIntBuffer.Reader(featurePostings.data, featurePostings.offsets[index],
+                featurePostings.offsets[index + 1]);
+        int frame = 0;
+        for (int i = 0; i < result.length; ++i) {
+            frame += reader.next();
+            result[i] = frame;
+        }
+        return result;
+    }
+
+    /**
+     * Return all frames with a given feature value, in class order.
+     *
+     * @param feature feature type
+     * @param key     feature value, e.g. "Instrument" for {@link FrameFeature#ROLE}
+     * @return matching frames
+     */
+    public List<VnFrame> frames(@NonNull FrameFeature feature, @NonNull String key) {
+        int[] frames = frameOrdinals(feature, key);
+        List<VnFrame> result = new ArrayList<>(frames.length);
+        for (int frame : frames) {
+            result.add(ordinals.frame(frame));
+        }
+        return result;
+    }
+
+    private static String normalize(FrameFeature feature, String key) {
+        if ((feature == FrameFeature.SELECTIONAL_RESTRICTION || feature == FrameFeature.SYNTACTIC_RESTRICTION)
+                && !key.startsWith("+") && !key.startsWith("-")) {
+            return restrictionKey(key, true);
+        }
+        if (feature == FrameFeature.SYNTAX) {
+            return syntaxKey(key);
+        }
+        return key;
+    }
+
+    private static Map<String, VnThematicRole> roles(VnClass cls) {
+        // nearest declaration of a role wins, as subclasses may refine the restrictions of inherited roles
+        Map<String, VnThematicRole> roles = new HashMap<>();
+        for (VnThematicRole role : cls.rolesIncludeInherited()) {
+            roles.putIfAbsent(role.type(), role);
+        }
+        return roles;
+    }
+
+    private static void collect(VnFrame frame, Map<String, VnThematicRole> roles, Map<FrameFeature, Set<String>> keys) {
+        List<VnSyntax> frameSyntax = frame.syntax();
+        keys.get(FrameFeature.SYNTAX).add(syntaxKey(frameSyntax));
+        for (VnSyntax syntax : frameSyntax) {
+            if (syntax instanceof VnNounPhrase) {
+                VnNounPhrase np = (VnNounPhrase) syntax;
+                keys.get(FrameFeature.ROLE).add(np.thematicRole());
+                restrictions(np.selectionalRestrictions(), keys.get(FrameFeature.SELECTIONAL_RESTRICTION));
+                restrictions(np.syntacticRestrictions(), keys.get(FrameFeature.SYNTACTIC_RESTRICTION));
+                VnThematicRole role = roles.get(np.thematicRole());
+                if (null != role) {
+                    restrictions(role.restrictions(), keys.get(FrameFeature.SELECTIONAL_RESTRICTION));
+                }
+            } else if (syntax instanceof VnPrep) {
+                VnPrep prep = (VnPrep) syntax;
+                keys.get(FrameFeature.PREPOSITION).addAll(prep.types());
+                restrictions(prep.restrictions(), keys.get(FrameFeature.SELECTIONAL_RESTRICTION));
+            }
+        }
+        for (VnSemanticPredicate predicate : frame.predicates()) {
+            keys.get(FrameFeature.PREDICATE).add(predicate.type());
+            for (VnSemanticArgument argument : predicate.semanticArguments()) {
+                keys.get(FrameFeature.ARGUMENT).add(argument.value());
+            }
+        }
+        keys.values().forEach(values -> values.remove(null));
+    }
+
+    private static void restrictions(List<VnRestrictions<String>> restrictions, Set<String> keys) {
+        if (null == restrictions) {
+            return;
+        }
+        for (VnRestrictions<String> restriction : restrictions) {
+            for (String type : restriction.include()) {
+                keys.add(restrictionKey(type, true));
+            }
+            for (String type : restriction.exclude()) {
+                keys.add(restrictionKey(type, false));
+            }
+        }
+    }
+
+    private static final class Postings {
+
+        private final String[] keys;
+        private final int[] counts;
+        private final int[] offsets;
+        private final byte[] data;
+
+        private Postings(Map<String, PostingsBuilder> builders) {
+            this.keys = builders.keySet().toArray(new String[0]);
+            this.counts = new int[keys.length];
+            this.offsets = new int[keys.length + 1];
+            int size = 0;
+            for (int i = 0; i < keys.length; ++i) {
+                PostingsBuilder builder = builders.get(keys[i]);
+                offsets[i] = size;
+                counts[i] = builder.count;
+                size += builder.buffer.size();
+            }
+            offsets[keys.length] = size;
+            this.data = new byte[size];
+            for (int i = 0; i < keys.length; ++i) {
+                byte[] bytes = builders.get(keys[i]).buffer.toByteArray();
+                System.arraycopy(bytes, 0, data, offsets[i], bytes.length);
+            }
+        }
+
+        private int find(String key) {
+            return Arrays.binarySearch(keys, key);
+        }
+
+    }
+
+    private static final class PostingsBuilder {
+
+        private final VarIntBuffer buffer = new VarIntBuffer();
+        private int last;
+        private int count;
+
+        private void add(int frame) {
+            buffer.write(frame - last);
+            last = frame;
+            count++;
+        }
+
+    }
+
+}
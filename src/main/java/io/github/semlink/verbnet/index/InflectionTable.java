@@ -0,0 +1,288 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.index;
+
+import com.google.common.collect.ImmutableList;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import io.github.semlink.verbnet.DefaultVnIndex;
+import io.github.semlink.verbnet.VnMember;
+import lombok.NonNull;
+
+/**
+ * Table mapping inflected surface forms of member verbs, e.g. "ran", "running" or "climbs", to their base lemmas. Forms
+ * are generated from the base lemma of every member with regular English morphology rules, except for lemmas listed in
+ * an exceptions file, whose forms are given explicitly. The default exceptions file, {@value #DEFAULT_EXCEPTIONS},
+ * lists common irregular verbs.
+ * <p>
+ * Forms are stored in a perfect hash table: keys are first hashed into small buckets, and each bucket records a seed
+ * for a second hash that places all of its keys in distinct slots, so that a lookup probes exactly one slot.
+ *
+ * @author jgung
+ */
+public final class InflectionTable {
+
+    /**
+     * Classpath resource listing inflected forms of irregular verbs.
+     */
+    public static final String DEFAULT_EXCEPTIONS = "verb-inflections.txt";
+
+    private static final int KEYS_PER_BUCKET = 4;
+    private static final int MAX_SEED = 1 << 20;
+
+    private final int[] seeds;
+    private final String[] forms;
+    private final List<String>[] lemmas;
+    private final int size;
+
+    public InflectionTable(@NonNull VnOrdinals ordinals) {
+        this(ordinals, defaultExceptions());
+    }
+
+    /**
+     * Initialize an {@link InflectionTable} with the given exceptions.
+     *
+     * @param ordinals   ordinals of the classes whose members are included
+     * @param exceptions inflected forms by base lemma, replacing regular forms for those lemmas
+     */
+    @SuppressWarnings("unchecked")
+    public InflectionTable(@NonNull VnOrdinals ordinals, @NonNull Map<String, List<String>> exceptions) {
+        Map<String, Set<String>> formLemmas = new TreeMap<>();
+        for (int cls = 0; cls < ordinals.classCount(); ++cls) {
+            for (VnMember member : ordinals.verbClass(cls).members()) {
+                String lemma = DefaultVnIndex.getBaseForm(member.name());
+                formLemmas.computeIfAbsent(lemma, k -> new LinkedHashSet<>()).add(lemma);
+                for (String form : exceptions.getOrDefault(lemma, inflect(lemma))) {
+                    formLemmas.computeIfAbsent(form, k -> new LinkedHashSet<>()).add(lemma);
+                }
+            }
+        }
+        this.size = formLemmas.size();
+        List<String> keys = new ArrayList<>(formLemmas.keySet());
+        int slots = size + size / 8 + 1;
+        this.seeds = new int[size / KEYS_PER_BUCKET + 1];
+        this.forms = new String[slots];
+        this.lemmas = new List[slots];
+
+        List<List<String>> buckets = new ArrayList<>(seeds.length);
+        for (int i = 0; i < seeds.length; ++i) {
+            buckets.add(new ArrayList<>());
+        }
+        for (String key : keys) {
+            buckets.get(hash(key, 0) % seeds.length).add(key);
+        }
+        // place the largest buckets first, while most slots are free
+        Integer[] order = new Integer[seeds.length];
+        for (int i = 0; i < order.length; ++i) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Integer.compare(buckets.get(b).size(), buckets.get(a).size()));
+        int[] placed = new int[KEYS_PER_BUCKET * 8];
+        for (int bucket : order) {
+            List<String> bucketKeys = buckets.get(bucket);
+            if (bucketKeys.isEmpty()) {
+                continue;
+            }
+            if (placed.length < bucketKeys.size()) {
+                placed = new int[bucketKeys.size()];
+            }
+            int seed = 1;
+            while (!place(bucketKeys, seed, placed)) {
+                if (++seed > MAX_SEED) {
+                    throw new IllegalStateException("Unable to find a perfect hash for " + bucketKeys);
+                }
+            }
+            seeds[bucket] = seed;
+            for (int i = 0; i < bucketKeys.size(); ++i) {
+                forms[placed[i]] = bucketKeys.get(i);
+                lemmas[placed[i]] = ImmutableList.copyOf(formLemmas.get(bucketKeys.get(i)));
+            }
+        }
+    }
+
+    /**
+     * Return the number of distinct surface forms, including base lemmas.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Return the base lemmas of a surface form, e.g. "fell" for "fall" or "fallen". Input is lower-cased, and only the
+     * first token of a phrase is used, as with {@link DefaultVnIndex#getBaseForm(String)}.
+     *
+     * @param surfaceForm inflected or base form
+     * @return base lemmas, or an empty list if the form is unknown
+     */
+    public List<String> lemmas(@NonNull String surfaceForm) {
+        String form = DefaultVnIndex.getBaseForm(surfaceForm);
+        int slot = hash(form, seeds[hash(form, 0) % seeds.length]) % forms.length;
+        return form.equals(forms[slot]) ? lemmas[slot] : Collections.emptyList();
+    }
+
+    /**
+     * Return the regular third-person singular, past and present participle forms of a lower-case verb lemma, e.g.
+     * "dips", "dipped", and "dipping" for "dip".
+     */
+    public static List<String> inflect(@NonNull String lemma) {
+        int length = lemma.length();
+        if (length == 0) {
+            return Collections.emptyList();
+        }
+        char last = lemma.charAt(length - 1);
+        boolean consonantY = last == 'y' && length > 1 && !isVowel(lemma.charAt(length - 2));
+        String stem = lemma.substring(0, length - 1);
+        boolean doubles = doublesFinalConsonant(lemma);
+
+        String thirdPerson;
+        if (lemma.endsWith("s") || lemma.endsWith("x") || lemma.endsWith("z") || lemma.endsWith("ch")
+                || lemma.endsWith("sh") || (last == 'o' && length > 1 && !isVowel(lemma.charAt(length - 2)))) {
+            thirdPerson = lemma + "es";
+        } else if (consonantY) {
+            thirdPerson = stem + "ies";
+        } else {
+            thirdPerson = lemma + "s";
+        }
+
+        String past;
+        if (last == 'e') {
+            past = lemma + "d";
+        } else if (consonantY) {
+            past = stem + "ied";
+        } else if (doubles) {
+            past = lemma + last + "ed";
+        } else {
+            past = lemma + "ed";
+        }
+
+        String participle;
+        if (lemma.endsWith("ie")) {
+            participle = lemma.substring(0, length - 2) + "ying";
+        } else if (last == 'e' && length > 2 && !lemma.endsWith("ee") && !lemma.endsWith("ye")
+                && !lemma.endsWith("oe")) {
+            participle = stem + "ing";
+        } else if (doubles) {
+            participle = lemma + last + "ing";
+        } else {
+            participle = lemma + "ing";
+        }
+        return Arrays.asList(thirdPerson, past, participle);
+    }
+
+    /**
+     * Read an exceptions file, in which each line lists a base lemma followed by all of its inflected forms. Blank lines
+     * and lines starting with "#" are ignored.
+     *
+     * @param inputStream exceptions file input stream
+     * @return inflected forms by base lemma
+     */
+    public static Map<String, List<String>> readExceptions(@NonNull InputStream inputStream) {
+        Map<String, List<String>> exceptions = new LinkedHashMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line;
+            while (null != (line = reader.readLine())) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.toLowerCase(Locale.ROOT).split("\\s+");
+                exceptions.put(fields[0], Arrays.asList(Arrays.copyOfRange(fields, 1, fields.length)));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading inflection exceptions", e);
+        }
+        return exceptions;
+    }
+
+    private static Map<String, List<String>> defaultExceptions() {
+        InputStream inputStream = InflectionTable.class.getClassLoader().getResourceAsStream(DEFAULT_EXCEPTIONS);
+        if (null == inputStream) {
+            throw new IllegalStateException("Missing inflection exceptions resource: " + DEFAULT_EXCEPTIONS);
+        }
+        return readExceptions(inputStream);
+    }
+
+    private boolean place(List<String> keys, int seed, int[] placed) {
+        for (int i = 0; i < keys.size(); ++i) {
+            int slot = hash(keys.get(i), seed) % forms.length;
+            if (null != forms[slot]) {
+                return false;
+            }
+            for (int j = 0; j < i; ++j) {
+                if (placed[j] == slot) {
+                    return false;
+                }
+            }
+            placed[i] = slot;
+        }
+        return true;
+    }
+
+    /**
+     * Monosyllabic verbs ending in a single vowel and consonant double the consonant, e.g. "dip" and "dipped".
+     * Polysyllabic verbs with final stress, e.g. "occur", are listed as exceptions instead.
+     */
+    private static boolean doublesFinalConsonant(String lemma) {
+        int length = lemma.length();
+        if (length < 3) {
+            return false;
+        }
+        char last = lemma.charAt(length - 1);
+        if (isVowel(last) || last == 'w' || last == 'x' || last == 'y' || !isVowel(lemma.charAt(length - 2))
+                || isVowel(lemma.charAt(length - 3))) {
+            return false;
+        }
+        for (int i = 0; i < length - 2; ++i) {
+            if (isVowel(lemma.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isVowel(char c) {
+        return c == 'a' || c == 'e' || c == 'i' || c == 'o' || c == 'u';
+    }
+
+    private static int hash(String key, int seed) {
+        int hash = seed * 0x9E3779B9;
+        for (int i = 0; i < key.length(); ++i) {
+            hash = (hash ^ key.charAt(i)) * 0x01000193;
+        }
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        return hash & Integer.MAX_VALUE;
+    }
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.index;
+
+import java.util.Set;
+
+import io.github.semlink.verbnet.VnClass;
+import io.github.semlink.verbnet.VnMember;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+
+/**
+ * Lemma or member name found by a {@link LemmaTrie} lookup.
+ *
+ * @author jgung
+ */
+@Getter
+@Accessors(fluent = true)
+@AllArgsConstructor
+public class LemmaMatch {
+
+    /**
+     * Matching base lemma or full member name, e.g. "go" or "go_on".
+     */
+    private final String lemma;
+    /**
+     * Edit distance between the query and the matching lemma, 0 for prefix lookups.
+     */
+    private final int distance;
+    /**
+     * Members with this base lemma or full name.
+     */
+    private final Set<VnMember> members;
+    /**
+     * Classes of the matching members.
+     */
+    private final Set<VnClass> classes;
+
+    @Override
+    public String toString() {
+        return lemma + (distance > 0 ? " (" + distance + ")" : "");
+    }
+
+}
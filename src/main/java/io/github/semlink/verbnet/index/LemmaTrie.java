@@ -0,0 +1,259 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.index;
+
+import com.google.common.collect.ImmutableSet;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import io.github.semlink.verbnet.DefaultVnIndex;
+import io.github.semlink.verbnet.VnClass;
+import io.github.semlink.verbnet.VnMember;
+import lombok.NonNull;
+
+/**
+ * Character trie over the base lemmas and full names of all members (e.g. both "go" and "go_on"), supporting prefix
+ * enumeration and bounded edit-distance search for truncated or misspelled input. The trie is stored as flat arrays,
+ * with the sorted outgoing edges of each node stored contiguously. Edit-distance search walks the trie computing one
+ * row of the Levenshtein matrix per node, pruning subtrees whose row minimum exceeds the bound, so only a small part of
+ * the trie is visited for small bounds.
+ * <p>
+ * Queries are lower-cased, and whitespace is treated as an underscore, so "go on" matches "go_on".
+ *
+ * @author jgung
+ */
+public final class LemmaTrie {
+
+    private static final Comparator<LemmaMatch> BY_DISTANCE = Comparator.comparingInt(LemmaMatch::distance)
+            .thenComparing(LemmaMatch::lemma);
+
+    // outgoing edges of node n are [edgeStart[n], edgeStart[n + 1]), sorted by label
+    private final int[] edgeStart;
+    private final char[] labels;
+    private final int[] targets;
+    // index into entries of the lemma ending at each node, or -1
+    private final int[] nodeEntry;
+    private final LemmaMatch[] entries;
+    private final int maxLength;
+
+    public LemmaTrie(@NonNull VnOrdinals ordinals) {
+        Map<String, Set<VnMember>> members = new TreeMap<>();
+        for (int cls = 0; cls < ordinals.classCount(); ++cls) {
+            for (VnMember member : ordinals.verbClass(cls).members()) {
+                String name = normalize(member.name());
+                members.computeIfAbsent(name, k -> new LinkedHashSet<>()).add(member);
+                members.computeIfAbsent(DefaultVnIndex.getBaseForm(name), k -> new LinkedHashSet<>()).add(member);
+            }
+        }
+
+        BuildNode root = new BuildNode();
+        List<LemmaMatch> entries = new ArrayList<>(members.size());
+        int maxLength = 0;
+        for (Map.Entry<String, Set<VnMember>> entry : members.entrySet()) {
+            String lemma = entry.getKey();
+            BuildNode node = root;
+            for (int i = 0; i < lemma.length(); ++i) {
+                node = node.children.computeIfAbsent(lemma.charAt(i), c -> new BuildNode());
+            }
+            node.entry = entries.size();
+            Set<VnClass> classes = new LinkedHashSet<>();
+            entry.getValue().forEach(member -> classes.add(member.verbClass()));
+            entries.add(new LemmaMatch(lemma, 0, ImmutableSet.copyOf(entry.getValue()), ImmutableSet.copyOf(classes)));
+            maxLength = Math.max(maxLength, lemma.length());
+        }
+        this.entries = entries.toArray(new LemmaMatch[0]);
+        this.maxLength = maxLength;
+
+        // number nodes breadth-first, so that the children of each node are numbered consecutively
+        List<BuildNode> nodes = new ArrayList<>();
+        Deque<BuildNode> queue = new ArrayDeque<>();
+        queue.add(root);
+        int edges = 0;
+        while (!queue.isEmpty()) {
+            BuildNode node = queue.poll();
+            node.id = nodes.size();
+            nodes.add(node);
+            edges += node.children.size();
+            queue.addAll(node.children.values());
+        }
+        this.edgeStart = new int[nodes.size() + 1];
+        this.labels = new char[edges];
+        this.targets = new int[edges];
+        this.nodeEntry = new int[nodes.size()];
+        int edge = 0;
+        int next = 1;
+        for (BuildNode node : nodes) {
+            edgeStart[node.id] = edge;
+            nodeEntry[node.id] = node.entry;
+            for (Map.Entry<Character, BuildNode> child : node.children.entrySet()) {
+                labels[edge] = child.getKey();
+                targets[edge++] = next++;
+            }
+        }
+        edgeStart[nodes.size()] = edge;
+    }
+
+    /**
+     * Return the number of distinct lemmas and member names.
+     */
+    public int size() {
+        return entries.length;
+    }
+
+    /**
+     * Return the number of trie nodes.
+     */
+    public int nodeCount() {
+        return nodeEntry.length;
+    }
+
+    /**
+     * Return the lemma or member name equal to a given string, or null if there is none.
+     */
+    public LemmaMatch get(@NonNull String lemma) {
+        int node = walk(normalize(lemma));
+        return node < 0 || nodeEntry[node] < 0 ? null : entries[nodeEntry[node]];
+    }
+
+    /**
+     * Return all lemmas and member names starting with a given prefix, in alphabetical order.
+     */
+    public List<LemmaMatch> prefix(@NonNull String prefix) {
+        return prefix(prefix, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Return up to a given number of lemmas and member names starting with a given prefix, in alphabetical order.
+     *
+     * @param prefix lemma prefix, e.g. "go_"
+     * @param limit  maximum number of results
+     * @return matching lemmas
+     */
+    public List<LemmaMatch> prefix(@NonNull String prefix, int limit) {
+        int node = walk(normalize(prefix));
+        if (node < 0 || limit <= 0) {
+            return Collections.emptyList();
+        }
+        List<LemmaMatch> result = new ArrayList<>();
+        collect(node, limit, result);
+        return result;
+    }
+
+    /**
+     * Return all lemmas and member names within a given number of insertions, deletions and substitutions of a query,
+     * ordered by distance and then alphabetically.
+     *
+     * @param query    possibly misspelled lemma
+     * @param maxEdits maximum edit distance
+     * @return matching lemmas with their distances
+     */
+    public List<LemmaMatch> fuzzy(@NonNull String query, int maxEdits) {
+        String normalized = normalize(query);
+        if (maxEdits < 0) {
+            return Collections.emptyList();
+        }
+        int columns = normalized.length() + 1;
+        int[][] rows = new int[maxLength + 1][columns];
+        for (int i = 0; i < columns; ++i) {
+            rows[0][i] = i;
+        }
+        List<LemmaMatch> result = new ArrayList<>();
+        search(0, 0, normalized, maxEdits, rows, result);
+        result.sort(BY_DISTANCE);
+        return result;
+    }
+
+    private void search(int node, int depth, String query, int maxEdits, int[][] rows, List<LemmaMatch> result) {
+        int[] row = rows[depth];
+        int distance = row[query.length()];
+        if (nodeEntry[node] >= 0 && distance <= maxEdits) {
+            LemmaMatch entry = entries[nodeEntry[node]];
+            result.add(distance == 0 ? entry
+                    : new LemmaMatch(entry.lemma(), distance, entry.members(), entry.classes()));
+        }
+        for (int edge = edgeStart[node]; edge < edgeStart[node + 1]; ++edge) {
+            char label = labels[edge];
+            int[] next = rows[depth + 1];
+            next[0] = row[0] + 1;
+            int min = next[0];
+            for (int i = 1; i <= query.length(); ++i) {
+                int cost = query.charAt(i - 1) == label ? 0 : 1;
+                next[i] = Math.min(Math.min(next[i - 1] + 1, row[i] + 1), row[i - 1] + cost);
+                min = Math.min(min, next[i]);
+            }
+            if (min <= maxEdits) {
+                search(targets[edge], depth + 1, query, maxEdits, rows, result);
+            }
+        }
+    }
+
+    private void collect(int node, int limit, List<LemmaMatch> result) {
+        if (nodeEntry[node] >= 0) {
+            result.add(entries[nodeEntry[node]]);
+        }
+        for (int edge = edgeStart[node]; edge < edgeStart[node + 1] && result.size() < limit; ++edge) {
+            collect(targets[edge], limit, result);
+        }
+    }
+
+    private int walk(String prefix) {
+        int node = 0;
+        for (int i = 0; i < prefix.length() && node >= 0; ++i) {
+            node = child(node, prefix.charAt(i));
+        }
+        return node;
+    }
+
+    private int child(int node, char label) {
+        int low = edgeStart[node];
+        int high = edgeStart[node + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (labels[mid] < label) {
+                low = mid + 1;
+            } else if (labels[mid] > label) {
+                high = mid - 1;
+            } else {
+                return targets[mid];
+            }
+        }
+        return -1;
+    }
+
+    private static String normalize(String lemma) {
+        return lemma.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", "_");
+    }
+
+    private static final class BuildNode {
+
+        private final Map<Character, BuildNode> children = new TreeMap<>();
+        private int entry = -1;
+        private int id;
+
+    }
+
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.index;
+
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import io.github.semlink.verbnet.WnKey;
+import io.github.semlink.verbnet.WnKey.SynsetType;
+import lombok.NonNull;
+
+/**
+ * Encoding of {@link WnKey WordNet keys} as single {@code long} values, using a dictionary of lemmas. A packed key holds
+ * the lemma ordinal in its upper bits, followed by 3 bits of synset type, 8 bits of lexical file number and 8 bits of
+ * lexical ID. Keys with a lemma outside the dictionary, or fields out of range, cannot be packed and are encoded as
+ * {@link #NONE}. Packing does not allocate, including from a raw sense key string such as "climb%2:38:01::".
+ * <p>
+ * Lemma ordinals follow the alphabetical order of lemmas, so packed keys sort by lemma, then type, lexical file and
+ * lexical ID.
+ *
+ * @author jgung
+ */
+public final class PackedWnKeys {
+
+    /**
+     * Value of a key that cannot be packed.
+     */
+    public static final long NONE = -1;
+
+    private static final int LEX_ID_BITS = 8;
+    private static final int LEX_FILE_BITS = 8;
+    private static final int TYPE_BITS = 3;
+    private static final int LEX_FILE_SHIFT = LEX_ID_BITS;
+    private static final int TYPE_SHIFT = LEX_FILE_SHIFT + LEX_FILE_BITS;
+    private static final int LEMMA_SHIFT = TYPE_SHIFT + TYPE_BITS;
+    private static final SynsetType[] TYPES = SynsetType.values();
+
+    private final String[] lemmas;
+    // open-addressing table of lemma ordinal + 1, 0 for empty slots
+    private final int[] table;
+
+    /**
+     * Initialize a dictionary over the lemmas of the given keys.
+     */
+    public PackedWnKeys(@NonNull Iterable<WnKey> keys) {
+        SortedSet<String> lemmas = new TreeSet<>();
+        keys.forEach(key -> lemmas.add(key.lemma()));
+        this.lemmas = lemmas.toArray(new String[0]);
+        int capacity = Integer.highestOneBit(Math.max(1, this.lemmas.length) * 2) * 2;
+        this.table = new int[capacity];
+        for (int ordinal = 0; ordinal < this.lemmas.length; ++ordinal) {
+            String lemma = this.lemmas[ordinal];
+            int slot = hash(lemma, 0, lemma.length()) & (capacity - 1);
+            while (table[slot] != 0) {
+                slot = (slot + 1) & (capacity - 1);
+            }
+            table[slot] = ordinal + 1;
+        }
+    }
+
+    /**
+     * Return the number of lemmas in the dictionary.
+     */
+    public int lemmaCount() {
+        return lemmas.length;
+    }
+
+    /**
+     * Pack a {@link WnKey}, ignoring uncertainty.
+     *
+     * @param key WordNet key
+     * @return packed key, or {@link #NONE} if the key cannot be packed
+     */
+    public long pack(@NonNull WnKey key) {
+        return pack(ordinal(key.lemma(), 0, key.lemma().length()), key.type().ordinal(), key.lexicalFileNumber(),
+                key.lexicalId());
+    }
+
+    /**
+     * Pack a raw sense key string, e.g. "climb%2:38:01::", accepting the same formats as {@link
+     * WnKey#parseWordNetKey(String)}.
+     *
+     * @param senseKey sense key string
+     * @return packed key, or {@link #NONE} if the key is malformed or cannot be packed
+     */
+    public long pack(@NonNull CharSequence senseKey) {
+        int start = 0;
+        int end = senseKey.length();
+        while (start < end && Character.isWhitespace(senseKey.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(senseKey.charAt(end - 1))) {
+            end--;
+        }
+        if (start < end && senseKey.charAt(start) == '?') {
+            start++;
+        }
+        int percent = start;
+        while (percent < end && senseKey.charAt(percent) != '%') {
+            percent++;
+        }
+        if (percent == start || percent + 1 >= end) {
+            return NONE;
+        }
+        int type = senseKey.charAt(percent + 1) - '0';
+        if (type < 1 || type > 9 || percent + 2 >= end || senseKey.charAt(percent + 2) != ':') {
+            return NONE;
+        }
+        int lexFile = 0;
+        int position = percent + 3;
+        int digits = position;
+        for (; position < end && Character.isDigit(senseKey.charAt(position)); ++position) {
+            lexFile = lexFile * 10 + senseKey.charAt(position) - '0';
+        }
+        if (position == digits || position >= end || senseKey.charAt(position) != ':' || lexFile >= 1 << LEX_FILE_BITS) {
+            return NONE;
+        }
+        int lexId = 0;
+        digits = ++position;
+        for (; position < end && Character.isDigit(senseKey.charAt(position)); ++position) {
+            lexId = lexId * 10 + senseKey.charAt(position) - '0';
+        }
+        if (position == digits || lexId >= 1 << LEX_ID_BITS) {
+            return NONE;
+        }
+        // any head word and head ID, or trailing "::", are ignored
+        if (position < end && senseKey.charAt(position) != ':') {
+            return NONE;
+        }
+        int synsetType = Math.min(type - 1, SynsetType.OTHER.ordinal());
+        return pack(ordinal(senseKey, start, percent), synsetType, lexFile, lexId);
+    }
+
+    /**
+     * Return the {@link WnKey} for a packed key.
+     */
+    public WnKey unpack(long packed) {
+        return new WnKey(lemma(packed), type(packed), lexicalFileNumber(packed), lexicalId(packed), false);
+    }
+
+    /**
+     * Return the lemma of a packed key.
+     */
+    public String lemma(long packed) {
+        return lemmas[(int) (packed >>> LEMMA_SHIFT)];
+    }
+
+    /**
+     * Return the synset type of a packed key.
+     */
+    public static SynsetType type(long packed) {
+        return TYPES[(int) (packed >>> TYPE_SHIFT) & ((1 << TYPE_BITS) - 1)];
+    }
+
+    /**
+     * Return the lexical file number of a packed key.
+     */
+    public static int lexicalFileNumber(long packed) {
+        return (int) (packed >>> LEX_FILE_SHIFT) & ((1 << LEX_FILE_BITS) - 1);
+    }
+
+    /**
+     * Return the lexical ID of a packed key.
+     */
+    public static int lexicalId(long packed) {
+        return (int) packed & ((1 << LEX_ID_BITS) - 1);
+    }
+
+    private static long pack(int lemma, int type, int lexFile, int lexId) {
+        if (lemma < 0 || type < 0 || type >= TYPES.length || lexFile < 0 || lexFile >= 1 << LEX_FILE_BITS
+                || lexId < 0 || lexId >= 1 << LEX_ID_BITS) {
+            return NONE;
+        }
+        return ((long) lemma << LEMMA_SHIFT) | ((long) type << TYPE_SHIFT) | ((long) lexFile << LEX_FILE_SHIFT) | lexId;
+    }
+
+    private int ordinal(CharSequence text, int start, int end) {
+        int mask = table.length - 1;
+        for (int slot = hash(text, start, end) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            String lemma = lemmas[table[slot] - 1];
+            if (regionEquals(lemma, text, start, end)) {
+                return table[slot] - 1;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean regionEquals(String lemma, CharSequence text, int start, int end) {
+        if (lemma.length() != end - start) {
+            return false;
+        }
+        for (int i = 0; i < lemma.length(); ++i) {
+            if (lemma.charAt(i) != text.charAt(start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hash(CharSequence text, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; ++i) {
+            hash = 31 * hash + text.charAt(i);
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.index;
+
+import java.util.Set;
+
+import io.github.semlink.verbnet.VnClass;
+import io.github.semlink.verbnet.VnMember;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+
+/**
+ * Occurrence of a multi-word member in a token sequence, found by a {@link PhrasalMatcher}.
+ *
+ * @author jgung
+ */
+@Getter
+@Accessors(fluent = true)
+@AllArgsConstructor
+public class PhrasalMatch {
+
+    /**
+     * Index of the first matching token.
+     */
+    private final int start;
+    /**
+     * Index after the last matching token.
+     */
+    private final int end;
+    /**
+     * Matching member name, e.g. "go_on".
+     */
+    private final String name;
+    /**
+     * Members with this name.
+     */
+    private final Set<VnMember> members;
+    /**
+     * Classes of the matching members.
+     */
+    private final Set<VnClass> classes;
+
+    @Override
+    public String toString() {
+        return String.format("%s [%d, %d)", name, start, end);
+    }
+
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.index;
+
+import com.google.common.collect.ImmutableSet;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import io.github.semlink.verbnet.VnClass;
+import io.github.semlink.verbnet.VnMember;
+import lombok.NonNull;
+
+/**
+ * Aho-Corasick automaton over the tokens of all multi-word members, e.g. "go_on" or "fall_off", for finding phrasal
+ * members in running text in a single pass. Input tokens should be lemmas, e.g. "go" rather than "went", and are
+ * matched case-insensitively.
+ *
+ * @author jgung
+ */
+public final class PhrasalMatcher {
+
+    private final Map<String, Integer> tokenIds = new HashMap<>();
+    // sorted transitions of state s are [edgeStart[s], edgeStart[s + 1])
+    private final int[] edgeStart;
+    private final int[] edgeTokens;
+    private final int[] edgeTargets;
+    private final int[] fail;
+    // phrase ending at each state, or -1, and the next state on the failure chain with a phrase, or -1
+    private final int[] statePhrase;
+    private final int[] outputLink;
+    private final PhrasalMatch[] phrases;
+    private final int[] phraseLength;
+
+    public PhrasalMatcher(@NonNull VnOrdinals ordinals) {
+        Map<String, Set<VnMember>> members = new TreeMap<>();
+        for (int cls = 0; cls < ordinals.classCount(); ++cls) {
+            for (VnMember member : ordinals.verbClass(cls).members()) {
+                String[] tokens = tokens(member.name().trim().toLowerCase(Locale.ROOT));
+                if (tokens.length > 1) {
+                    // keyed by tokens, so that e.g. "go_on" and "go on" share one phrase and automaton state
+                    members.computeIfAbsent(String.join("_", tokens), k -> new LinkedHashSet<>()).add(member);
+                }
+            }
+        }
+
+        List<Map<Integer, Integer>> transitions = new ArrayList<>();
+        List<Integer> phraseStates = new ArrayList<>();
+        transitions.add(new TreeMap<>());
+        this.phrases = new PhrasalMatch[members.size()];
+        this.phraseLength = new int[members.size()];
+        int phrase = 0;
+        for (Map.Entry<String, Set<VnMember>> entry : members.entrySet()) {
+            int state = 0;
+            String[] tokens = tokens(entry.getKey());
+            for (String token : tokens) {
+                int id = tokenIds.computeIfAbsent(token, t -> tokenIds.size());
+                Integer next = transitions.get(state).get(id);
+                if (null == next) {
+                    next = transitions.size();
+                    transitions.add(new TreeMap<>());
+                    transitions.get(state).put(id, next);
+                }
+                state = next;
+            }
+            Set<VnClass> classes = new LinkedHashSet<>();
+            entry.getValue().forEach(member -> classes.add(member.verbClass()));
+            phrases[phrase] = new PhrasalMatch(0, tokens.length, entry.getKey(), ImmutableSet.copyOf(entry.getValue()),
+                    ImmutableSet.copyOf(classes));
+            phraseLength[phrase] = tokens.length;
+            phraseStates.add(state);
+            phrase++;
+        }
+
+        int states = transitions.size();
+        this.edgeStart = new int[states + 1];
+        int edges = transitions.stream().mapToInt(Map::size).sum();
+        this.edgeTokens = new int[edges];
+        this.edgeTargets = new int[edges];
+        int edge = 0;
+        for (int state = 0; state < states; ++state) {
+            edgeStart[state] = edge;
+            for (Map.Entry<Integer, Integer> transition : transitions.get(state).entrySet()) {
+                edgeTokens[edge] = transition.getKey();
+                edgeTargets[edge++] = transition.getValue();
+            }
+        }
+        edgeStart[states] = edge;
+        this.statePhrase = new int[states];
+        Arrays.fill(statePhrase, -1);
+        for (int i = 0; i < phraseStates.size(); ++i) {
+            statePhrase[phraseStates.get(i)] = i;
+        }
+
+        // failure and output links, breadth-first so that shallower states are complete first
+        this.fail = new int[states];
+        this.outputLink = new int[states];
+        Arrays.fill(outputLink, -1);
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int e = edgeStart[0]; e < edgeStart[1]; ++e) {
+            queue.add(edgeTargets[e]);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int e = edgeStart[state]; e < edgeStart[state + 1]; ++e) {
+                int child = edgeTargets[e];
+                int target = fail[state];
+                int next = next(target, edgeTokens[e]);
+                while (next < 0 && target != 0) {
+                    target = fail[target];
+                    next = next(target, edgeTokens[e]);
+                }
+                fail[child] = Math.max(next, 0);
+                outputLink[child] = statePhrase[fail[child]] >= 0 ? fail[child] : outputLink[fail[child]];
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Return the number of distinct multi-word member names.
+     */
+    public int size() {
+        return phrases.length;
+    }
+
+    /**
+     * Return the longest non-overlapping phrasal members in a sequence of lemmas, from left to right. Where matches
+     * overlap, the one starting first is kept, and the longest of matches starting at the same token.
+     *
+     * @param lemmas lemmatized tokens, e.g. ["they", "go", "on", "talk"]
+     * @return matches in order of their spans
+     */
+    public List<PhrasalMatch> match(@NonNull List<String> lemmas) {
+        List<PhrasalMatch> result = new ArrayList<>();
+        // longest phrase starting at each token
+        int[] longest = null;
+        int state = 0;
+        for (int i = 0; i < lemmas.size(); ++i) {
+            int id = tokenIds.getOrDefault(lemmas.get(i).toLowerCase(Locale.ROOT), -1);
+            int next = next(state, id);
+            while (next < 0 && state != 0) {
+                state = fail[state];
+                next = next(state, id);
+            }
+            state = Math.max(next, 0);
+            int output = statePhrase[state] >= 0 ? state : outputLink[state];
+            for (; output >= 0; output = outputLink[output]) {
+                int phrase = statePhrase[output];
+                int start = i + 1 - phraseLength[phrase];
+                if (null == longest) {
+                    longest = new int[lemmas.size()];
+                    Arrays.fill(longest, -1);
+                }
+                if (longest[start] < 0 || phraseLength[phrase] > phraseLength[longest[start]]) {
+                    longest[start] = phrase;
+                }
+            }
+        }
+        if (null == longest) {
+            return Collections.emptyList();
+        }
+        for (int start = 0; start < longest.length; ) {
+            int phrase = longest[start];
+            if (phrase < 0) {
+                start++;
+                continue;
+            }
+            PhrasalMatch match = phrases[phrase];
+            int end = start + phraseLength[phrase];
+            result.add(new PhrasalMatch(start, end, match.name(), match.members(), match.classes()));
+            start = end;
+        }
+        return result;
+    }
+
+    private int next(int state, int token) {
+        int low = edgeStart[state];
+        int high = edgeStart[state + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (edgeTokens[mid] < token) {
+                low = mid + 1;
+            } else if (edgeTokens[mid] > token) {
+                high = mid - 1;
+            } else {
+                return edgeTargets[mid];
+            }
+        }
+        return -1;
+    }
+
+    private static String[] tokens(String name) {
+        return name.split("[_\\s]+");
+    }
+
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.github.semlink.verbnet.semantics.VnSemanticPredicate;
+import lombok.NonNull;
+
+/**
+ * Index over the sequences of semantic predicates of all frames, supporting contiguous n-gram and ordered subsequence
+ * queries. The predicates of all frames are laid out in one flat array of type identifiers, with unigram and bigram
+ * postings of positions in that array. N-gram queries start from the rarest bigram (or unigram) in the query, and
+ * subsequence queries from the frames containing every queried type, so that only candidate frames are verified.
+ *
+ * @author jgung
+ */
+public final class PredicateSequenceIndex {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final VnOrdinals ordinals;
+    private final Map<String, Integer> typeIds = new HashMap<>();
+    // flat predicate layout: predicates of frame f occupy [frameStart[f], frameStart[f + 1])
+    private final int[] types;
+    private final int[] predicateFrame;
+    private final VnSemanticPredicate[] predicates;
+    private final int[] frameStart;
+    // positions of each type, and frames containing each type, in ascending order
+    private final int[][] typePositions;
+    private final int[][] typeFrames;
+    // positions of the first predicate of each pair of adjacent types, keyed by both type identifiers
+    private final Map<Long, int[]> bigramPositions = new HashMap<>();
+
+    public PredicateSequenceIndex(@NonNull VnOrdinals ordinals) {
+        this.ordinals = ordinals;
+        List<VnSemanticPredicate> flat = new ArrayList<>();
+        this.frameStart = new int[ordinals.frameCount() + 1];
+        for (int frame = 0; frame < ordinals.frameCount(); ++frame) {
+            frameStart[frame] = flat.size();
+            flat.addAll(ordinals.frame(frame).predicates());
+        }
+        frameStart[ordinals.frameCount()] = flat.size();
+        this.predicates = flat.toArray(new VnSemanticPredicate[0]);
+        this.types = new int[predicates.length];
+        this.predicateFrame = new int[predicates.length];
+
+        List<List<Integer>> positions = new ArrayList<>();
+        List<List<Integer>> frames = new ArrayList<>();
+        Map<Long, List<Integer>> bigrams = new HashMap<>();
+        for (int frame = 0; frame < ordinals.frameCount(); ++frame) {
+            for (int position = frameStart[frame]; position < frameStart[frame + 1]; ++position) {
+                int type = typeIds.computeIfAbsent(predicates[position].type(), t -> {
+                    positions.add(new ArrayList<>());
+                    frames.add(new ArrayList<>());
+                    return typeIds.size();
+                });
+                types[position] = type;
+                predicateFrame[position] = frame;
+                positions.get(type).add(position);
+                List<Integer> typeFrameList = frames.get(type);
+                if (typeFrameList.isEmpty() || typeFrameList.get(typeFrameList.size() - 1) != frame) {
+                    typeFrameList.add(frame);
+                }
+                if (position > frameStart[frame]) {
+                    bigrams.computeIfAbsent(bigram(types[position - 1], type), k -> new ArrayList<>())
+                            .add(position - 1);
+                }
+            }
+        }
+        this.typePositions = positions.stream().map(PredicateSequenceIndex::toArray).toArray(int[][]::new);
+        this.typeFrames = frames.stream().map(PredicateSequenceIndex::toArray).toArray(int[][]::new);
+        bigrams.forEach((key, value) -> bigramPositions.put(key, toArray(value)));
+    }
+
+    /**
+     * Return the number of indexed predicates, over all frames.
+     */
+    public int size() {
+        return predicates.length;
+    }
+
+    /**
+     * Return the number of frames containing a predicate of a given type.
+     */
+    public int frameCount(@NonNull String type) {
+        Integer id = typeIds.get(type);
+        return null == id ? 0 : typeFrames[id].length;
+    }
+
+    /**
+     * Return every occurrence of consecutive predicates of the given types, e.g. "has_val", "change_value".
+     */
+    public List<PredicateMatch> ngram(@NonNull String... types) {
+        return ngram(steps(types));
+    }
+
+    /**
+     * Return every occurrence of consecutive predicates matching the given steps, in class and frame order.
+     */
+    public List<PredicateMatch> ngram(@NonNull PredicateStep... steps) {
+        int[] ids = ids(steps);
+        if (null == ids) {
+            return Collections.emptyList();
+        }
+        // seed from the rarest unigram or bigram of the query
+        int[] seed = typePositions[ids[0]];
+        int offset = 0;
+        for (int i = 0; i < ids.length; ++i) {
+            int[] candidates = typePositions[ids[i]];
+            if (i + 1 < ids.length) {
+                candidates = bigramPositions.getOrDefault(bigram(ids[i], ids[i + 1]), EMPTY);
+            }
+            if (candidates.length < seed.length) {
+                seed = candidates;
+                offset = i;
+            }
+        }
+        List<PredicateMatch> result = new ArrayList<>();
+        for (int position : seed) {
+            int start = position - offset;
+            int frame = predicateFrame[position];
+            if (start < frameStart[frame] || start + ids.length > frameStart[frame + 1]) {
+                continue;
+            }
+            boolean match = true;
+            for (int i = 0; i < ids.length && match; ++i) {
+                match = types[start + i] == ids[i] && steps[i].matchesConstraints(predicates[start + i]);
+            }
+            if (match) {
+                int[] matched = new int[ids.length];
+                for (int i = 0; i < ids.length; ++i) {
+                    matched[i] = start + i;
+                }
+                result.add(match(frame, matched));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Return all frames containing predicates of the given types in order, not necessarily consecutive, e.g. "has_state",
+     * "cause", "change_value".
+     */
+    public List<PredicateMatch> subsequence(@NonNull String... types) {
+        return subsequence(steps(types));
+    }
+
+    /**
+     * Return all frames containing predicates matching the given steps in order, not necessarily consecutive, in class
+     * and frame order. Each match reports the earliest such predicates.
+     */
+    public List<PredicateMatch> subsequence(@NonNull PredicateStep... steps) {
+        int[] ids = ids(steps);
+        if (null == ids) {
+            return Collections.emptyList();
+        }
+        int[] seed = typeFrames[ids[0]];
+        for (int id : ids) {
+            if (typeFrames[id].length < seed.length) {
+                seed = typeFrames[id];
+            }
+        }
+        List<PredicateMatch> result = new ArrayList<>();
+        int[] matched = new int[ids.length];
+        for (int frame : seed) {
+            boolean candidate = true;
+            for (int i = 0; i < ids.length && candidate; ++i) {
+                candidate = Arrays.binarySearch(typeFrames[ids[i]], frame) >= 0;
+            }
+            if (!candidate) {
+                continue;
+            }
+            // earliest matching predicate for each step in turn
+            int step = 0;
+            for (int position = frameStart[frame]; position < frameStart[frame + 1] && step < ids.length; ++position) {
+                if (types[position] == ids[step] && steps[step].matchesConstraints(predicates[position])) {
+                    matched[step++] = position;
+                }
+            }
+            if (step == ids.length) {
+                result.add(match(frame, matched));
+            }
+        }
+        return result;
+    }
+
+    private PredicateMatch match(int frame, int[] matched) {
+        List<Integer> positions = new ArrayList<>(matched.length);
+        for (int position : matched) {
+            positions.add(position - frameStart[frame]);
+        }
+        return new PredicateMatch(ordinals.verbClass(ordinals.frameClass(frame)), ordinals.frame(frame), positions);
+    }
+
+    private int[] ids(PredicateStep[] steps) {
+        if (steps.length == 0) {
+            return null;
+        }
+        int[] ids = new int[steps.length];
+        for (int i = 0; i < steps.length; ++i) {
+            Integer id = typeIds.get(steps[i].type());
+            if (null == id) {
+                return null;
+            }
+            ids[i] = id;
+        }
+        return ids;
+    }
+
+    private static PredicateStep[] steps(String[] types) {
+        PredicateStep[] steps = new PredicateStep[types.length];
+        for (int i = 0; i < types.length; ++i) {
+            steps[i] = new PredicateStep(types[i]);
+        }
+        return steps;
+    }
+
+    private static long bigram(int first, int second) {
+        return ((long) first << 32) | (second & 0xFFFFFFFFL);
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.index;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.github.semlink.verbnet.semantics.VnPredicatePolarity;
+import io.github.semlink.verbnet.semantics.VnSemanticArgument;
+import io.github.semlink.verbnet.semantics.VnSemanticPredicate;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.Accessors;
+
+/**
+ * Single element of a {@link PredicateSequenceIndex} query: a predicate type, with an optional polarity and required
+ * argument values, e.g. {@code new PredicateStep("cause").argument("Agent")}.
+ *
+ * @author jgung
+ */
+@Getter
+@Accessors(fluent = true)
+public class PredicateStep {
+
+    /**
+     * Required predicate type, e.g. "cause".
+     */
+    private final String type;
+    /**
+     * Required polarity, or null to match any polarity.
+     */
+    private VnPredicatePolarity polarity;
+    /**
+     * Argument values that must all appear among the arguments of the predicate, e.g. "Agent" or "e1".
+     */
+    private final List<String> arguments = new ArrayList<>();
+
+    public PredicateStep(@NonNull String type) {
+        this.type = type;
+    }
+
+    /**
+     * Require a given polarity.
+     */
+    public PredicateStep polarity(VnPredicatePolarity polarity) {
+        this.polarity = polarity;
+        return this;
+    }
+
+    /**
+     * Require an argument with a given value.
+     */
+    public PredicateStep argument(@NonNull String value) {
+        arguments.add(value);
+        return this;
+    }
+
+    /**
+     * Return true if a given predicate satisfies the polarity and argument constraints of this step. The type is not
+     * checked.
+     */
+    boolean matchesConstraints(VnSemanticPredicate predicate) {
+        if (null != polarity && polarity != predicate.polarity()) {
+            return false;
+        }
+        if (arguments.isEmpty()) {
+            return true;
+        }
+        List<VnSemanticArgument> predicateArguments = predicate.semanticArguments();
+        for (String value : arguments) {
+            boolean found = false;
+            for (VnSemanticArgument argument : predicateArguments) {
+                if (value.equals(argument.value())) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return (polarity == VnPredicatePolarity.FALSE ? "not " : "") + type + (arguments.isEmpty() ? "" : arguments);
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.index;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.github.semlink.verbnet.VnClass;
+import io.github.semlink.verbnet.VnThematicRole;
+import io.github.semlink.verbnet.restrictions.DefaultVnRestrictions;
+import io.github.semlink.verbnet.restrictions.VnRestrictions;
+import lombok.NonNull;
+
+/**
+ * Table of the effective thematic roles of every class, resolved in a single pass over classes in pre-order, so that
+ * each class starts from the resolved roles of its parent. A role declared by a class overrides an inherited role of the
+ * same type, keeping its position; an unrestricted redeclaration keeps the inherited restrictions. Restrictions are
+ * expanded once into disjunctive normal form, with empty and duplicate conjunctions removed.
+ *
+ * @author jgung
+ */
+public final class RoleTable {
+
+    private final VnOrdinals ordinals;
+    private final Map<String, EffectiveRole>[] roles;
+
+    @SuppressWarnings("unchecked")
+    public RoleTable(@NonNull VnOrdinals ordinals) {
+        this.ordinals = ordinals;
+        this.roles = new Map[ordinals.classCount()];
+        for (int cls = 0; cls < ordinals.classCount(); ++cls) {
+            VnClass verbClass = ordinals.verbClass(cls);
+            int parent = verbClass.parentClass().map(ordinals::ordinal).orElse(-1);
+            Map<String, EffectiveRole> resolved = new LinkedHashMap<>();
+            if (parent >= 0) {
+                resolved.putAll(roles[parent]);
+            }
+            for (VnThematicRole role : verbClass.roles()) {
+                List<VnRestrictions<String>> restrictions = normalize(role.restrictions());
+                EffectiveRole inherited = resolved.get(role.type());
+                if (restrictions.isEmpty() && null != inherited) {
+                    restrictions = inherited.restrictions();
+                }
+                resolved.put(role.type(), new EffectiveRole(role.type(), verbClass, restrictions));
+            }
+            roles[cls] = ImmutableMap.copyOf(resolved);
+        }
+    }
+
+    /**
+     * Return the effective role of a given type for a class, or null if the class neither declares nor inherits it.
+     *
+     * @param verbClass class in this table
+     * @param type      role type, e.g. "Agent"
+     * @return effective role, or null
+     */
+    public EffectiveRole effectiveRole(@NonNull VnClass verbClass, @NonNull String type) {
+        int cls = ordinals.ordinal(verbClass);
+        return cls < 0 ? null : roles[cls].get(type);
+    }
+
+    /**
+     * Return all effective roles of a class, inherited roles first, or an empty collection for an unknown class.
+     */
+    public Collection<EffectiveRole> effectiveRoles(@NonNull VnClass verbClass) {
+        int cls = ordinals.ordinal(verbClass);
+        return cls < 0 ? ImmutableList.of() : roles[cls].values();
+    }
+
+    private static List<VnRestrictions<String>> normalize(List<VnRestrictions<String>> restrictions) {
+        Map<List<Set<String>>, VnRestrictions<String>> conjunctions = new LinkedHashMap<>();
+        for (VnRestrictions<String> conjunction : restrictions) {
+            if (conjunction.include().isEmpty() && conjunction.exclude().isEmpty()) {
+                continue;
+            }
+            Set<String> include = ImmutableSet.copyOf(conjunction.include());
+            Set<String> exclude = ImmutableSet.copyOf(conjunction.exclude());
+            conjunctions.putIfAbsent(Arrays.asList(include, exclude),
+                    new DefaultVnRestrictions<String>().include(include).exclude(exclude));
+        }
+        return ImmutableList.copyOf(conjunctions.values());
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.index;
+
+import java.util.List;
+
+import io.github.semlink.verbnet.VnClass;
+import io.github.semlink.verbnet.VnMember;
+import io.github.semlink.verbnet.VnThematicRole;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+
+/**
+ * Class mapped to a PropBank roleset or OntoNotes grouping (e.g. "sever.01") through one of its members, together with
+ * the thematic roles of the class, including inherited roles.
+ *
+ * @author jgung
+ */
+@Getter
+@Accessors(fluent = true)
+@AllArgsConstructor
+public class RolesetMapping {
+
+    /**
+     * Roleset or grouping, e.g. "sever.01".
+     */
+    private final String roleset;
+    /**
+     * Class containing a member with this grouping.
+     */
+    private final VnClass verbClass;
+    /**
+     * Members of the class with this grouping.
+     */
+    private final List<VnMember> members;
+    /**
+     * Thematic roles of the class, including inherited roles, as given by {@link VnClass#rolesIncludeInherited()}.
+     */
+    private final List<VnThematicRole> roles;
+
+    @Override
+    public String toString() {
+        return roleset + " -> " + verbClass.verbNetId();
+    }
+
+}
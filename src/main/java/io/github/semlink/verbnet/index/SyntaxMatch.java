@@ -0,0 +1,57 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.index;
+
+import java.util.List;
+
+import io.github.semlink.verbnet.VnClass;
+import io.github.semlink.verbnet.VnFrame;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+
+/**
+ * Frame matching a constituent sequence in a {@link SyntaxPatternIndex}, with the thematic role assigned to each
+ * constituent.
+ *
+ * @author jgung
+ */
+@Getter
+@Accessors(fluent = true)
+@AllArgsConstructor
+public class SyntaxMatch {
+
+    /**
+     * Class declaring the matching frame.
+     */
+    private final VnClass verbClass;
+    /**
+     * Matching frame.
+     */
+    private final VnFrame frame;
+    /**
+     * Thematic role assigned to each input constituent, e.g. [Agent, null, Patient, Instrument] for "NP V NP PP(with)";
+     * null for constituents without an NP.
+     */
+    private final List<String> roles;
+
+    @Override
+    public String toString() {
+        return String.format("%s %s %s", verbClass.verbNetId(), frame.description().primary(), roles);
+    }
+
+}
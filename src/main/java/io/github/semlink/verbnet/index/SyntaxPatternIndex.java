@@ -0,0 +1,334 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import io.github.semlink.verbnet.VnClass;
+import io.github.semlink.verbnet.VnFrame;
+import io.github.semlink.verbnet.syntax.VnLex;
+import io.github.semlink.verbnet.syntax.VnNounPhrase;
+import io.github.semlink.verbnet.syntax.VnPrep;
+import io.github.semlink.verbnet.syntax.VnSyntax;
+import lombok.NonNull;
+
+/**
+ * Trie compiled from the syntax of every frame, used to find the frames compatible with an observed constituent
+ * sequence in a single pass. Edges are syntax elements: NP slots, the verb, adjectives, adverbs, LEX literals, and PREP
+ * elements labelled with their set of allowed prepositions. Each terminal node records its frames together with the
+ * thematic role of each NP slot.
+ * <p>
+ * Constituent sequences are given as space-separated tokens, e.g. "NP V NP PP(with)":
+ * <ul>
+ * <li>"NP", "V" (or "VERB"), "ADJ" and "ADV" match the corresponding element; annotations after a "." are ignored</li>
+ * <li>"P(with)" or "PREP(with)" match a PREP allowing "with", or any PREP if no preposition is given</li>
+ * <li>"PP(with)" or "PP" match a PREP followed by an NP</li>
+ * <li>"LEX(it)" matches a LEX literal, and any other token (e.g. "of") matches a LEX literal or a PREP allowing it</li>
+ * </ul>
+ * PREP elements without any listed preposition (constrained only by restrictions) match any preposition.
+ *
+ * @author jgung
+ */
+public final class SyntaxPatternIndex {
+
+    private static final String NP = "NP";
+    private static final String VERB = "V";
+    private static final String LEX = "LEX:";
+
+    private final VnOrdinals ordinals;
+    private final Node root = new Node();
+    private int nodes = 1;
+
+    public SyntaxPatternIndex(@NonNull VnOrdinals ordinals) {
+        this.ordinals = ordinals;
+        for (int frame = 0; frame < ordinals.frameCount(); ++frame) {
+            insert(frame, ordinals.frame(frame).syntax());
+        }
+        root.freeze();
+    }
+
+    /**
+     * Return the number of trie nodes.
+     */
+    public int size() {
+        return nodes;
+    }
+
+    /**
+     * Return all frames matching a given constituent sequence, e.g. "NP V NP PP(with)", in class order.
+     *
+     * @param constituents space-separated constituent sequence
+     * @return matching frames with role assignments
+     */
+    public List<SyntaxMatch> match(@NonNull String constituents) {
+        return match(constituents, null);
+    }
+
+    /**
+     * Return all frames matching a given constituent sequence, e.g. "NP V NP PP(with)", that are available to a set of
+     * classes, i.e. declared by one of the classes or inherited from one of their ancestors. The classes are typically
+     * those of a lemma, e.g. {@code vnIndex.getByLemma("break")}.
+     *
+     * @param constituents space-separated constituent sequence
+     * @param classes      classes whose frames, including inherited frames, may match
+     * @return matching frames with role assignments, in class order
+     */
+    public List<SyntaxMatch> match(@NonNull String constituents, Collection<VnClass> classes) {
+        List<Element> elements = new ArrayList<>();
+        String[] tokens = constituents.trim().split("\\s+");
+        for (int i = 0; i < tokens.length; ++i) {
+            if (!tokens[i].isEmpty()) {
+                parse(tokens[i], i, elements);
+            }
+        }
+        if (elements.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Node> terminals = new ArrayList<>();
+        find(root, elements, 0, terminals);
+
+        BitSet allowed = null == classes ? null : allowedClasses(classes);
+        List<int[]> hits = new ArrayList<>();
+        for (int terminal = 0; terminal < terminals.size(); ++terminal) {
+            int[] frames = terminals.get(terminal).frames;
+            for (int i = 0; i < frames.length; ++i) {
+                if (null == allowed || allowed.get(ordinals.frameClass(frames[i]))) {
+                    hits.add(new int[]{frames[i], terminal, i});
+                }
+            }
+        }
+        hits.sort((a, b) -> Integer.compare(a[0], b[0]));
+
+        List<SyntaxMatch> result = new ArrayList<>(hits.size());
+        for (int[] hit : hits) {
+            String[] slotRoles = terminals.get(hit[1]).roles[hit[2]];
+            String[] roles = new String[tokens.length];
+            for (int element = 0; element < elements.size(); ++element) {
+                if (null != slotRoles[element]) {
+                    roles[elements.get(element).token] = slotRoles[element];
+                }
+            }
+            VnFrame frame = ordinals.frame(hit[0]);
+            result.add(new SyntaxMatch(ordinals.verbClass(ordinals.frameClass(hit[0])), frame, Arrays.asList(roles)));
+        }
+        return result;
+    }
+
+    private BitSet allowedClasses(Collection<VnClass> classes) {
+        BitSet allowed = new BitSet(ordinals.classCount());
+        for (VnClass cls : classes) {
+            for (VnClass ancestor : cls.ancestors(true)) {
+                int ordinal = ordinals.ordinal(ancestor);
+                if (ordinal >= 0) {
+                    allowed.set(ordinal);
+                }
+            }
+        }
+        return allowed;
+    }
+
+    private void insert(int frame, List<VnSyntax> syntax) {
+        Node node = root;
+        String[] roles = new String[syntax.size()];
+        for (int i = 0; i < syntax.size(); ++i) {
+            VnSyntax element = syntax.get(i);
+            switch (element.type()) {
+                case NP:
+                    roles[i] = ((VnNounPhrase) element).thematicRole();
+                    node = child(node, NP);
+                    break;
+                case VERB:
+                    node = child(node, VERB);
+                    break;
+                case LEX:
+                    node = child(node, LEX + normalize(((VnLex) element).value()));
+                    break;
+                case PREP:
+                    node = prep(node, ((VnPrep) element).types());
+                    break;
+                default:
+                    node = child(node, element.type().name());
+                    break;
+            }
+        }
+        node.frameList.add(frame);
+        node.roleList.add(roles);
+    }
+
+    private Node child(Node node, String label) {
+        return node.children.computeIfAbsent(label, l -> {
+            nodes++;
+            return new Node();
+        });
+    }
+
+    private Node prep(Node node, Set<String> types) {
+        Set<String> normalized = new TreeSet<>();
+        for (String type : types) {
+            if (null != type && !type.trim().isEmpty()) {
+                normalized.add(normalize(type));
+            }
+        }
+        for (PrepEdge edge : node.preps) {
+            if (edge.types.equals(normalized)) {
+                return edge.target;
+            }
+        }
+        nodes++;
+        PrepEdge edge = new PrepEdge(normalized, new Node());
+        node.preps.add(edge);
+        return edge.target;
+    }
+
+    private static void find(Node node, List<Element> elements, int index, List<Node> terminals) {
+        if (index == elements.size()) {
+            if (node.frames.length > 0) {
+                terminals.add(node);
+            }
+            return;
+        }
+        Element element = elements.get(index);
+        if (null != element.label) {
+            Node child = node.children.get(element.label);
+            if (null != child) {
+                find(child, elements, index + 1, terminals);
+            }
+        }
+        if (element.prep) {
+            for (PrepEdge edge : node.preps) {
+                if (null == element.word || edge.types.isEmpty() || edge.types.contains(element.word)) {
+                    find(edge.target, elements, index + 1, terminals);
+                }
+            }
+        }
+    }
+
+    private static void parse(String token, int index, List<Element> elements) {
+        String type = token;
+        String word = null;
+        int open = token.indexOf('(');
+        if (open >= 0) {
+            type = token.substring(0, open);
+            int close = token.indexOf(')', open);
+            word = normalize(token.substring(open + 1, close < 0 ? token.length() : close));
+            if (word.isEmpty()) {
+                word = null;
+            }
+        }
+        int dot = type.indexOf('.');
+        if (dot > 0) {
+            type = type.substring(0, dot);
+        }
+        switch (type.toUpperCase(Locale.ROOT)) {
+            case "NP":
+                elements.add(new Element(index, NP, false, null));
+                break;
+            case "V":
+            case "VERB":
+                elements.add(new Element(index, VERB, false, null));
+                break;
+            case "ADJ":
+            case "ADV":
+                elements.add(new Element(index, type.toUpperCase(Locale.ROOT), false, null));
+                break;
+            case "P":
+            case "PREP":
+                elements.add(new Element(index, null, true, word));
+                break;
+            case "PP":
+                elements.add(new Element(index, null, true, word));
+                elements.add(new Element(index, NP, false, null));
+                break;
+            case "LEX":
+                elements.add(new Element(index, LEX + (null == word ? "" : word), false, null));
+                break;
+            default:
+                String literal = normalize(token);
+                elements.add(new Element(index, LEX + literal, true, literal));
+                break;
+        }
+    }
+
+    private static String normalize(String word) {
+        return word.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Element {
+
+        private final int token;
+        private final String label;
+        private final boolean prep;
+        private final String word;
+
+        private Element(int token, String label, boolean prep, String word) {
+            this.token = token;
+            this.label = label;
+            this.prep = prep;
+            this.word = word;
+        }
+
+    }
+
+    private static final class PrepEdge {
+
+        private final Set<String> types;
+        private final Node target;
+
+        private PrepEdge(Set<String> types, Node target) {
+            this.types = types;
+            this.target = target;
+        }
+
+    }
+
+    private static final class Node {
+
+        private Map<String, Node> children = new HashMap<>();
+        private List<PrepEdge> preps = new ArrayList<>();
+        private List<Integer> frameList = new ArrayList<>();
+        private List<String[]> roleList = new ArrayList<>();
+        private int[] frames;
+        private String[][] roles;
+
+        private void freeze() {
+            frames = frameList.stream().mapToInt(Integer::intValue).toArray();
+            roles = roleList.toArray(new String[0][]);
+            frameList = null;
+            roleList = null;
+            if (children.isEmpty()) {
+                children = Collections.emptyMap();
+            }
+            if (preps.isEmpty()) {
+                preps = Collections.emptyList();
+            }
+            children.values().forEach(Node::freeze);
+            preps.forEach(edge -> edge.target.freeze());
+        }
+
+    }
+
+}
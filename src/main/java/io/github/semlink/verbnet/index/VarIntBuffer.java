@@ -0,0 +1,96 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.index;
+
+import java.util.Arrays;
+
+/**
+ * Growable byte buffer of variable-length encoded non-negative integers (7 bits per byte, high bit set on all but the
+ * last byte), used to store delta-encoded postings lists compactly.
+ *
+ * @author jgung
+ */
+final class VarIntBuffer {
+
+    private byte[] bytes = new byte[64];
+    private int size;
+
+    /**
+     * Append a non-negative integer.
+     */
+    void write(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Expecting a non-negative value: " + value);
+        }
+        if (size + 5 > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + 5));
+        }
+        while ((value & ~0x7F) != 0) {
+            bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[size++] = (byte) value;
+    }
+
+    /**
+     * Return the number of bytes written so far.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Return a trimmed copy of the bytes written so far.
+     */
+    byte[] toByteArray() {
+        return Arrays.copyOf(bytes, size);
+    }
+
+    /**
+     * Sequential reader over a range of variable-length encoded integers.
+     */
+    static final class Reader {
+
+        private final byte[] bytes;
+        private final int end;
+        private int position;
+
+        Reader(byte[] bytes, int start, int end) {
+            this.bytes = bytes;
+            this.position = start;
+            this.end = end;
+        }
+
+        boolean hasNext() {
+            return position < end;
+        }
+
+        int next() {
+            int result = 0;
+            int shift = 0;
+            byte current;
+            do {
+                current = bytes[position++];
+                result |= (current & 0x7F) << shift;
+                shift += 7;
+            } while ((current & 0x80) != 0);
+            return result;
+        }
+
+    }
+
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import io.github.semlink.verbnet.VnClass;
+import io.github.semlink.verbnet.VnClassId;
+import lombok.NonNull;
+
+/**
+ * Navigable index over the IDs of all classes, supporting prefix, range, floor and ceiling lookups by binary search.
+ * IDs are ordered numerically by their "."-separated components, then by their "-"-separated subclass components, so
+ * that "45.4" precedes "45.10", and every class sorts immediately before its subclasses and the classes nested under
+ * its ID (e.g. "45.6", "45.6-1", "45.6.1", "45.6.1-1"). Lookups return unmodifiable views over a single sorted array.
+ * <p>
+ * IDs may be given with or without a class name, e.g. "calibratable_cos-45.6.1" or "45.6.1".
+ *
+ * @author jgung
+ */
+public final class VnClassIdIndex {
+
+    private final List<VnClass> sorted;
+    private final int[][] keys;
+
+    public VnClassIdIndex(@NonNull VnOrdinals ordinals) {
+        List<Object[]> entries = new ArrayList<>(ordinals.classCount());
+        for (int cls = 0; cls < ordinals.classCount(); ++cls) {
+            VnClass verbClass = ordinals.verbClass(cls);
+            entries.add(new Object[]{key(verbClass.verbNetId().classId()), verbClass});
+        }
+        entries.sort((a, b) -> compare((int[]) a[0], (int[]) b[0]));
+        this.keys = new int[entries.size()][];
+        VnClass[] classes = new VnClass[entries.size()];
+        for (int i = 0; i < classes.length; ++i) {
+            keys[i] = (int[]) entries.get(i)[0];
+            classes[i] = (VnClass) entries.get(i)[1];
+        }
+        this.sorted = Collections.unmodifiableList(Arrays.asList(classes));
+    }
+
+    /**
+     * Return all classes in ID order.
+     */
+    public List<VnClass> all() {
+        return sorted;
+    }
+
+    /**
+     * Return all classes with a given ID or nested under it, e.g. "45" for all classes in section 45, or "45.6" for
+     * "45.6", "45.6-1", "45.6.1" and so on.
+     *
+     * @param prefix class ID prefix
+     * @return view of matching classes in ID order, empty if the ID is invalid
+     */
+    public List<VnClass> prefix(@NonNull String prefix) {
+        int[] key = parse(prefix);
+        if (null == key) {
+            return Collections.emptyList();
+        }
+        int from = lowerBound(key);
+        return sorted.subList(from, prefixEnd(key, from));
+    }
+
+    /**
+     * Return all classes from a given ID through another ID, including classes nested under the upper ID, e.g. "45.4"
+     * through "45.6" includes "45.6.1-1".
+     *
+     * @param from lowest class ID, inclusive
+     * @param to   highest class ID, inclusive along with its nested classes
+     * @return view of matching classes in ID order, empty if either ID is invalid
+     */
+    public List<VnClass> range(@NonNull String from, @NonNull String to) {
+        int[] fromKey = parse(from);
+        int[] toKey = parse(to);
+        if (null == fromKey || null == toKey) {
+            return Collections.emptyList();
+        }
+        int start = lowerBound(fromKey);
+        int end = prefixEnd(toKey, lowerBound(toKey));
+        return start < end ? sorted.subList(start, end) : Collections.emptyList();
+    }
+
+    /**
+     * Return the class with the greatest ID less than or equal to a given ID, or null if there is none.
+     */
+    public VnClass floor(@NonNull String id) {
+        int[] key = parse(id);
+        if (null == key) {
+            return null;
+        }
+        int index = lowerBound(key);
+        if (index < keys.length && compare(keys[index], key) == 0) {
+            return sorted.get(index);
+        }
+        return index == 0 ? null : sorted.get(index - 1);
+    }
+
+    /**
+     * Return the class with the least ID greater than or equal to a given ID, or null if there is none.
+     */
+    public VnClass ceiling(@NonNull String id) {
+        int[] key = parse(id);
+        if (null == key) {
+            return null;
+        }
+        int index = lowerBound(key);
+        return index == keys.length ? null : sorted.get(index);
+    }
+
+    /**
+     * Return the class with the greatest ID strictly less than a given ID, or null if there is none.
+     */
+    public VnClass lower(@NonNull String id) {
+        int[] key = parse(id);
+        if (null == key) {
+            return null;
+        }
+        int index = lowerBound(key);
+        return index == 0 ? null : sorted.get(index - 1);
+    }
+
+    /**
+     * Return the class with the least ID strictly greater than a given ID, or null if there is none.
+     */
+    public VnClass higher(@NonNull String id) {
+        int[] key = parse(id);
+        if (null == key) {
+            return null;
+        }
+        int index = lowerBound(key);
+        if (index < keys.length && compare(keys[index], key) == 0) {
+            index++;
+        }
+        return index == keys.length ? null : sorted.get(index);
+    }
+
+    private int lowerBound(int[] key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(keys[mid], key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int prefixEnd(int[] prefix, int from) {
+        // classes under a prefix are contiguous, starting at its lower bound
+        int low = from;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (startsWith(keys[mid], prefix)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int[] parse(String id) {
+        try {
+            return key(VnClassId.parse(id).classId());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Encode a class ID such as "45.6.1-1" as [number of "." components, "." components..., "-" components...].
+     */
+    private static int[] key(String classId) {
+        String[] subclasses = classId.split("-");
+        String[] sections = subclasses[0].split("\\.");
+        int[] key = new int[1 + sections.length + subclasses.length - 1];
+        key[0] = sections.length;
+        for (int i = 0; i < sections.length; ++i) {
+            key[1 + i] = Integer.parseInt(sections[i]);
+        }
+        for (int i = 1; i < subclasses.length; ++i) {
+            key[sections.length + i] = Integer.parseInt(subclasses[i]);
+        }
+        return key;
+    }
+
+    private static int compare(int[] a, int[] b) {
+        int sections = Math.min(a[0], b[0]);
+        for (int i = 1; i <= sections; ++i) {
+            if (a[i] != b[i]) {
+                return Integer.compare(a[i], b[i]);
+            }
+        }
+        if (a[0] != b[0]) {
+            return Integer.compare(a[0], b[0]);
+        }
+        for (int i = a[0] + 1; i < Math.min(a.length, b.length); ++i) {
+            if (a[i] != b[i]) {
+                return Integer.compare(a[i], b[i]);
+            }
+        }
+        return Integer.compare(a.length, b.length);
+    }
+
+    private static boolean startsWith(int[] key, int[] prefix) {
+        boolean subclassPrefix = prefix.length > prefix[0] + 1;
+        if (subclassPrefix ? key[0] != prefix[0] : key[0] < prefix[0]) {
+            return false;
+        }
+        for (int i = 1; i <= prefix[0]; ++i) {
+            if (key[i] != prefix[i]) {
+                return false;
+            }
+        }
+        if (!subclassPrefix) {
+            return true;
+        }
+        if (key.length < prefix.length) {
+            return false;
+        }
+        for (int i = prefix[0] + 1; i < prefix.length; ++i) {
+            if (key[i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import io.github.semlink.verbnet.VnClass;
+import io.github.semlink.verbnet.VnFrame;
+import io.github.semlink.verbnet.VnMember;
+import lombok.NonNull;
+
+/**
+ * Dense ordinals for the classes and frames of a VerbNet index, used as compact document identifiers by secondary
+ * indexes. Classes are numbered in pre-order (each root followed by its descendants), and frames are numbered
+ * consecutively in class order, so that the frames of a class occupy a contiguous range of frame ordinals. Members are
+ * laid out in class order the same way.
+ * <p>
+ * The flat arrays also back {@link #classes()}, {@link #members()} and {@link #frames()} streams, whose spliterators
+ * are SIZED, SUBSIZED and IMMUTABLE, so that parallel streams split them evenly.
+ *
+ * @author jgung
+ */
+public final class VnOrdinals {
+
+    private final VnClass[] classes;
+    private final VnFrame[] frames;
+    private final VnMember[] members;
+    private final int[] firstFrame;
+    private final int[] frameClass;
+    private final Map<VnClass, Integer> classOrdinals = new IdentityHashMap<>();
+
+    public VnOrdinals(@NonNull List<VnClass> roots) {
+        List<VnClass> classes = new ArrayList<>();
+        for (VnClass root : roots) {
+            classes.addAll(root.descendants(true));
+        }
+        this.classes = classes.toArray(new VnClass[0]);
+        this.firstFrame = new int[this.classes.length + 1];
+        List<VnFrame> frames = new ArrayList<>();
+        List<VnMember> members = new ArrayList<>();
+        for (int i = 0; i < this.classes.length; ++i) {
+            classOrdinals.put(this.classes[i], i);
+            firstFrame[i] = frames.size();
+            frames.addAll(this.classes[i].frames());
+            members.addAll(this.classes[i].members());
+        }
+        firstFrame[this.classes.length] = frames.size();
+        this.frames = frames.toArray(new VnFrame[0]);
+        this.members = members.toArray(new VnMember[0]);
+        this.frameClass = new int[this.frames.length];
+        for (int i = 0; i < this.classes.length; ++i) {
+            Arrays.fill(frameClass, firstFrame[i], firstFrame[i + 1], i);
+        }
+    }
+
+    /**
+     * Return the number of classes.
+     */
+    public int classCount() {
+        return classes.length;
+    }
+
+    /**
+     * Return the number of frames, over all classes.
+     */
+    public int frameCount() {
+        return frames.length;
+    }
+
+    /**
+     * Return the number of members, over all classes.
+     */
+    public int memberCount() {
+        return members.length;
+    }
+
+    /**
+     * Return the class with a given ordinal.
+     */
+    public VnClass verbClass(int classOrdinal) {
+        return classes[classOrdinal];
+    }
+
+    /**
+     * Return the ordinal of a given class, or -1 if not in this index.
+     */
+    public int ordinal(@NonNull VnClass cls) {
+        Integer ordinal = classOrdinals.get(cls);
+        return null == ordinal ? -1 : ordinal;
+    }
+
+    /**
+     * Return the frame with a given (global) frame ordinal.
+     */
+    public VnFrame frame(int frameOrdinal) {
+        return frames[frameOrdinal];
+    }
+
+    /**
+     * Return the member with a given (global) member ordinal.
+     */
+    public VnMember member(int memberOrdinal) {
+        return members[memberOrdinal];
+    }
+
+    /**
+     * Return the global ordinal of the frame at a given position within a class.
+     */
+    public int frameOrdinal(int classOrdinal, int frameIndex) {
+        return firstFrame[classOrdinal] + frameIndex;
+    }
+
+    /**
+     * Return the ordinal of the class containing a frame with a given global ordinal.
+     */
+    public int frameClass(int frameOrdinal) {
+        return frameClass[frameOrdinal];
+    }
+
+    /**
+     * Return the position of a frame with a given global ordinal within its class.
+     */
+    public int frameIndex(int frameOrdinal) {
+        return frameOrdinal - firstFrame[frameClass[frameOrdinal]];
+    }
+
+    /**
+     * Return the global ordinal of the first frame of a given class.
+     */
+    public int firstFrame(int classOrdinal) {
+        return firstFrame[classOrdinal];
+    }
+
+    /**
+     * Return the global ordinal following the last frame of a given class.
+     */
+    public int endFrame(int classOrdinal) {
+        return firstFrame[classOrdinal + 1];
+    }
+
+    /**
+     * Return a stream over all classes in ordinal (pre-order) order.
+     */
+    public Stream<VnClass> classes() {
+        return stream(classes);
+    }
+
+    /**
+     * Return a stream over the members declared by all classes, in class order.
+     */
+    public Stream<VnMember> members() {
+        return stream(members);
+    }
+
+    /**
+     * Return a stream over the frames declared by all classes, in frame ordinal order.
+     */
+    public Stream<VnFrame> frames() {
+        return stream(frames);
+    }
+
+    private static <T> Stream<T> stream(T[] values) {
+        return StreamSupport.stream(Spliterators.spliterator(values,
+                Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.NONNULL), false);
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.index;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Multimap;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import io.github.semlink.verbnet.WnKey;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.Accessors;
+
+/**
+ * Immutable map from {@link PackedWnKeys packed WordNet keys} to sets of values, stored as a sorted {@code long} array
+ * with a parallel array of value sets. Lookups by {@link WnKey}, packed key or raw sense key string do not allocate.
+ *
+ * @param <V> value type
+ * @author jgung
+ */
+public final class WnKeyIndex<V> {
+
+    @Getter
+    @Accessors(fluent = true)
+    private final PackedWnKeys packedKeys;
+    private final long[] keys;
+    private final Set<V>[] values;
+
+    /**
+     * Initialize an index from a multimap keyed by {@link WnKey}. Keys that cannot be packed are skipped.
+     *
+     * @param packedKeys lemma dictionary used to pack keys
+     * @param entries    values by key
+     */
+    @SuppressWarnings("unchecked")
+    public WnKeyIndex(@NonNull PackedWnKeys packedKeys, @NonNull Multimap<WnKey, V> entries) {
+        this.packedKeys = packedKeys;
+        Map<Long, Set<V>> sorted = new TreeMap<>();
+        entries.forEach((key, value) -> {
+            long packed = packedKeys.pack(key);
+            if (packed != PackedWnKeys.NONE) {
+                sorted.computeIfAbsent(packed, k -> new LinkedHashSet<>()).add(value);
+            }
+        });
+        this.keys = new long[sorted.size()];
+        this.values = new Set[sorted.size()];
+        int index = 0;
+        for (Map.Entry<Long, Set<V>> entry : sorted.entrySet()) {
+            keys[index] = entry.getKey();
+            values[index++] = ImmutableSet.copyOf(entry.getValue());
+        }
+    }
+
+    /**
+     * Return the number of distinct keys.
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * Return the packed key at a given position, in ascending order of packed keys.
+     */
+    public long key(int index) {
+        return keys[index];
+    }
+
+    /**
+     * Return the values of the key at a given position, in ascending order of packed keys.
+     */
+    public Set<V> values(int index) {
+        return values[index];
+    }
+
+    /**
+     * Return the values for a packed key, or an empty set if there are none.
+     */
+    public Set<V> get(long packed) {
+        int index = packed == PackedWnKeys.NONE ? -1 : Arrays.binarySearch(keys, packed);
+        return index < 0 ? Collections.emptySet() : values[index];
+    }
+
+    /**
+     * Return the values for a {@link WnKey}, or an empty set if there are none.
+     */
+    public Set<V> get(@NonNull WnKey key) {
+        return get(packedKeys.pack(key));
+    }
+
+    /**
+     * Return the values for a raw sense key string, e.g. "climb%2:38:01::", or an empty set if there are none.
+     */
+    public Set<V> get(@NonNull CharSequence senseKey) {
+        return get(packedKeys.pack(senseKey));
+    }
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.index;
+
+import com.google.common.collect.ImmutableSetMultimap;
+
+import java.util.List;
+import java.util.Set;
+
+import io.github.semlink.verbnet.VnClass;
+import io.github.semlink.verbnet.VnMember;
+import io.github.semlink.verbnet.WnKey;
+import io.github.semlink.verbnet.WnKey.SynsetType;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.Accessors;
+
+/**
+ * Secondary indexes from the {@link WnKey WordNet keys} of all members to members and classes, by exact key, raw sense
+ * key string, lexical file, synset type and WordNet lemma, all built in a single pass over the members. Keys are
+ * {@link PackedWnKeys packed} into primitives sharing one lemma dictionary, and no lookup allocates.
+ * <p>
+ * Since a subclass inherits the members of its ancestors, a key mapped to a member of a class also applies to the
+ * descendants of that class, as returned by {@link #classesIncludeInherited(WnKey)}.
+ *
+ * @author jgung
+ */
+public final class WordNetIndex {
+
+    @Getter
+    @Accessors(fluent = true)
+    private final PackedWnKeys packedKeys;
+    private final WnKeyIndex<VnMember> members;
+    private final WnKeyIndex<VnClass> classes;
+    private final WnKeyIndex<VnClass> inheritingClasses;
+    private final ImmutableSetMultimap<Integer, VnMember> lexicalFileMembers;
+    private final ImmutableSetMultimap<SynsetType, VnMember> typeMembers;
+    private final ImmutableSetMultimap<String, VnClass> lemmaClasses;
+
+    public WordNetIndex(@NonNull VnOrdinals ordinals) {
+        ImmutableSetMultimap.Builder<WnKey, VnMember> members = ImmutableSetMultimap.builder();
+        ImmutableSetMultimap.Builder<WnKey, VnClass> classes = ImmutableSetMultimap.builder();
+        ImmutableSetMultimap.Builder<WnKey, VnClass> inheritingClasses = ImmutableSetMultimap.builder();
+        ImmutableSetMultimap.Builder<Integer, VnMember> lexicalFileMembers = ImmutableSetMultimap.builder();
+        ImmutableSetMultimap.Builder<SynsetType, VnMember> typeMembers = ImmutableSetMultimap.builder();
+        ImmutableSetMultimap.Builder<String, VnClass> lemmaClasses = ImmutableSetMultimap.builder();
+        for (int cls = 0; cls < ordinals.classCount(); ++cls) {
+            VnClass verbClass = ordinals.verbClass(cls);
+            List<VnClass> descendants = null;
+            for (VnMember member : verbClass.members()) {
+                if (!member.wn().isEmpty() && null == descendants) {
+                    descendants = verbClass.descendants(true);
+                }
+                for (WnKey key : member.wn()) {
+                    members.put(key, member);
+                    classes.put(key, verbClass);
+                    inheritingClasses.putAll(key, descendants);
+                    lexicalFileMembers.put(key.lexicalFileNumber(), member);
+                    typeMembers.put(key.type(), member);
+                    lemmaClasses.put(key.lemma(), verbClass);
+                }
+            }
+        }
+        ImmutableSetMultimap<WnKey, VnMember> memberMap = members.build();
+        this.packedKeys = new PackedWnKeys(memberMap.keySet());
+        this.members = new WnKeyIndex<>(packedKeys, memberMap);
+        this.classes = new WnKeyIndex<>(packedKeys, classes.build());
+        this.inheritingClasses = new WnKeyIndex<>(packedKeys, inheritingClasses.build());
+        this.lexicalFileMembers = lexicalFileMembers.build();
+        this.typeMembers = typeMembers.build();
+        this.lemmaClasses = lemmaClasses.build();
+    }
+
+    /**
+     * Return the number of distinct WordNet keys.
+     */
+    public int size() {
+        return members.size();
+    }
+
+    /**
+     * Return all members mapped to a given key.
+     */
+    public Set<VnMember> members(@NonNull WnKey key) {
+        return members.get(key);
+    }
+
+    /**
+     * Return all members mapped to a raw sense key string, e.g. "climb%2:38:01::".
+     */
+    public Set<VnMember> members(@NonNull CharSequence senseKey) {
+        return members.get(senseKey);
+    }
+
+    /**
+     * Return all classes with a member mapped to a given key.
+     */
+    public Set<VnClass> classes(@NonNull WnKey key) {
+        return classes.get(key);
+    }
+
+    /**
+     * Return all classes with a member mapped to a raw sense key string, e.g. "climb%2:38:01::".
+     */
+    public Set<VnClass> classes(@NonNull CharSequence senseKey) {
+        return classes.get(senseKey);
+    }
+
+    /**
+     * Return all classes with a member mapped to a given key, together with their descendants, which inherit the member.
+     */
+    public Set<VnClass> classesIncludeInherited(@NonNull WnKey key) {
+        return inheritingClasses.get(key);
+    }
+
+    /**
+     * Return all classes with a member mapped to a raw sense key string, together with their descendants, which inherit
+     * the member.
+     */
+    public Set<VnClass> classesIncludeInherited(@NonNull CharSequence senseKey) {
+        return inheritingClasses.get(senseKey);
+    }
+
+    /**
+     * Return all members mapped to a key in a given lexicographer file, e.g. 38 for "verb.motion".
+     */
+    public Set<VnMember> membersByLexicalFile(int lexicalFileNumber) {
+        return lexicalFileMembers.get(lexicalFileNumber);
+    }
+
+    /**
+     * Return all members mapped to a key of a given synset type.
+     */
+    public Set<VnMember> membersByType(@NonNull SynsetType type) {
+        return typeMembers.get(type);
+    }
+
+    /**
+     * Return all classes with a member mapped to any sense of a given WordNet lemma, e.g. "go_on".
+     */
+    public Set<VnClass> classesByLemma(@NonNull String lemma) {
+        return lemmaClasses.get(lemma);
+    }
+
+}
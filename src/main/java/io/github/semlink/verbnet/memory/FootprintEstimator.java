@@ -0,0 +1,277 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.memory;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.github.semlink.verbnet.VnClass;
+import io.github.semlink.verbnet.VnFrame;
+import io.github.semlink.verbnet.VnMember;
+import io.github.semlink.verbnet.VnThematicRole;
+import io.github.semlink.verbnet.WnKey;
+import io.github.semlink.verbnet.restrictions.VnRestrictions;
+import io.github.semlink.verbnet.xml.CompressedExamples;
+import io.github.semlink.verbnet.xml.FrameExampleXml;
+import io.github.semlink.verbnet.xml.SelectionalRestrictionsXml;
+import io.github.semlink.verbnet.xml.SyntacticRestrictionsXml;
+import lombok.NonNull;
+
+/**
+ * Estimates retained heap sizes by walking object graphs reflectively, assuming a HotSpot object layout. Objects
+ * reachable from several components are attributed to the first component that reaches them. Objects that are an
+ * instance of a {@link #LEXICON_COMPONENTS lexicon type}, and objects only reachable through them, are attributed to
+ * that type's component regardless of where they are reached from.
+ * <p>
+ * Enum constants, classes and boxed primitives are treated as shared and never counted. Fields of JDK classes that
+ * cannot be reflectively accessed (e.g. on Java 9+) are estimated from their public collection API where possible.
+ *
+ * @author jgung
+ */
+public class FootprintEstimator {
+
+    public static final String CLASSES = "classes";
+    public static final String MEMBERS = "members";
+    public static final String ROLES = "roles";
+    public static final String FRAMES = "frames";
+    public static final String EXAMPLES = "examples";
+    public static final String RESTRICTIONS = "restrictions";
+    public static final String WORDNET_KEYS = "wordnet keys";
+
+    /**
+     * Types that determine the component of an object and everything reachable only through it, checked in order.
+     */
+    public static final List<Map.Entry<Class<?>, String>> LEXICON_COMPONENTS = lexiconComponents();
+
+    private static final boolean IS_64_BIT = !"32".equals(System.getProperty("sun.arch.data.model"));
+    private static final boolean COMPRESSED_OOPS = IS_64_BIT && Runtime.getRuntime().maxMemory() < 32L << 30;
+    private static final int REFERENCE = IS_64_BIT && !COMPRESSED_OOPS ? 8 : 4;
+    private static final int HEADER = IS_64_BIT ? (COMPRESSED_OOPS ? 12 : 16) : 8;
+    private static final int ARRAY_HEADER = IS_64_BIT ? (COMPRESSED_OOPS ? 16 : 24) : 12;
+    private static final boolean COMPACT_STRINGS = !System.getProperty("java.specification.version").startsWith("1.");
+
+    private final Map<Object, Boolean> seen = new IdentityHashMap<>();
+    private final Map<String, long[]> components = new LinkedHashMap<>();
+    private final Map<String, int[]> strings = new HashMap<>();
+    private final Map<Class<?>, ClassLayout> layouts = new HashMap<>();
+
+    /**
+     * Attribute everything reachable from the given object that has not already been measured to a given component.
+     *
+     * @param root      object to measure
+     * @param component default component name
+     * @return this estimator
+     */
+    public FootprintEstimator measure(Object root, @NonNull String component) {
+        Deque<Object[]> stack = new ArrayDeque<>();
+        stack.push(new Object[]{root, component});
+        while (!stack.isEmpty()) {
+            Object[] next = stack.pop();
+            Object current = next[0];
+            if (null == current || isShared(current) || null != seen.put(current, Boolean.TRUE)) {
+                continue;
+            }
+            String category = category(current, (String) next[1]);
+            long[] totals = components.computeIfAbsent(category, key -> new long[2]);
+            totals[0] += visit(current, category, stack);
+            totals[1] += 1;
+        }
+        return this;
+    }
+
+    /**
+     * Return the estimated footprint of everything measured so far.
+     */
+    public VnFootprint report() {
+        List<VnFootprint.Component> result = new ArrayList<>();
+        for (Map.Entry<String, long[]> component : components.entrySet()) {
+            result.add(new VnFootprint.Component(component.getKey(), component.getValue()[0], component.getValue()[1]));
+        }
+        long duplicates = 0;
+        long duplicateBytes = 0;
+        for (Map.Entry<String, int[]> string : strings.entrySet()) {
+            int copies = string.getValue()[0] - 1;
+            duplicates += copies;
+            duplicateBytes += copies * stringSize(string.getKey());
+        }
+        return new VnFootprint(result, duplicates, duplicateBytes);
+    }
+
+    private static List<Map.Entry<Class<?>, String>> lexiconComponents() {
+        Map<Class<?>, String> result = new LinkedHashMap<>();
+        result.put(VnClass.class, CLASSES);
+        result.put(VnMember.class, MEMBERS);
+        result.put(VnThematicRole.class, ROLES);
+        result.put(VnFrame.class, FRAMES);
+        result.put(FrameExampleXml.class, EXAMPLES);
+        result.put(CompressedExamples.class, EXAMPLES);
+        result.put(SelectionalRestrictionsXml.class, RESTRICTIONS);
+        result.put(SyntacticRestrictionsXml.class, RESTRICTIONS);
+        result.put(VnRestrictions.class, RESTRICTIONS);
+        result.put(WnKey.class, WORDNET_KEYS);
+        return new ArrayList<>(result.entrySet());
+    }
+
+    private static String category(Object object, String inherited) {
+        for (Map.Entry<Class<?>, String> component : LEXICON_COMPONENTS) {
+            if (component.getKey().isInstance(object)) {
+                return component.getValue();
+            }
+        }
+        return inherited;
+    }
+
+    private static boolean isShared(Object object) {
+        return object instanceof Enum || object instanceof Class || object instanceof Boolean
+                || object instanceof Number && object.getClass().getName().startsWith("java.lang.");
+    }
+
+    private long visit(Object object, String category, Deque<Object[]> stack) {
+        Class<?> type = object.getClass();
+        if (object instanceof String) {
+            strings.computeIfAbsent((String) object, key -> new int[1])[0]++;
+            return stringSize((String) object);
+        }
+        if (type.isArray()) {
+            int length = Array.getLength(object);
+            Class<?> component = type.getComponentType();
+            if (!component.isPrimitive()) {
+                for (Object element : (Object[]) object) {
+                    stack.push(new Object[]{element, category});
+                }
+                return align(ARRAY_HEADER + (long) length * REFERENCE);
+            }
+            return align(ARRAY_HEADER + (long) length * primitiveSize(component));
+        }
+        ClassLayout layout = layouts.computeIfAbsent(type, ClassLayout::new);
+        if (layout.accessible) {
+            for (Field field : layout.references) {
+                try {
+                    stack.push(new Object[]{field.get(object), category});
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            return layout.size;
+        }
+        // inaccessible JDK internals, estimate from the public API
+        if (object instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) object;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                stack.push(new Object[]{entry.getKey(), category});
+                stack.push(new Object[]{entry.getValue(), category});
+            }
+            return layout.size + hashTableSize(map.size()) + map.size() * align(HEADER + 3L * REFERENCE + 4);
+        }
+        if (object instanceof Collection) {
+            Collection<?> collection = (Collection<?>) object;
+            for (Object element : collection) {
+                stack.push(new Object[]{element, category});
+            }
+            if (object instanceof Set) {
+                // typically backed by a hash map
+                return layout.size + align(HEADER + 5L * REFERENCE + 16) + hashTableSize(collection.size())
+                        + collection.size() * align(HEADER + 3L * REFERENCE + 4);
+            }
+            return layout.size + align(ARRAY_HEADER + (long) collection.size() * REFERENCE);
+        }
+        return layout.size;
+    }
+
+    private static long hashTableSize(int entries) {
+        int capacity = Integer.highestOneBit(Math.max(1, (int) (entries / 0.75f)) * 2 - 1);
+        return align(ARRAY_HEADER + (long) Math.max(16, capacity) * REFERENCE);
+    }
+
+    private static long stringSize(String string) {
+        int charBytes = 2;
+        if (COMPACT_STRINGS) {
+            charBytes = 1;
+            for (int i = 0; i < string.length(); ++i) {
+                if (string.charAt(i) > 0xFF) {
+                    charBytes = 2;
+                    break;
+                }
+            }
+        }
+        return align(HEADER + REFERENCE + 8) + align(ARRAY_HEADER + (long) string.length() * charBytes);
+    }
+
+    private static int primitiveSize(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        } else if (type == int.class || type == float.class) {
+            return 4;
+        } else if (type == short.class || type == char.class) {
+            return 2;
+        }
+        return 1;
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+
+    /**
+     * Shallow size and reference fields of a given class.
+     */
+    private static class ClassLayout {
+
+        private final long size;
+        private final List<Field> references = new ArrayList<>();
+        private boolean accessible = true;
+
+        private ClassLayout(Class<?> type) {
+            long fields = 0;
+            for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+                    if (field.getType().isPrimitive()) {
+                        fields += primitiveSize(field.getType());
+                        continue;
+                    }
+                    fields += REFERENCE;
+                    if (accessible) {
+                        try {
+                            field.setAccessible(true);
+                            references.add(field);
+                        } catch (RuntimeException e) {
+                            // e.g. InaccessibleObjectException for JDK internals on Java 9+
+                            accessible = false;
+                        }
+                    }
+                }
+            }
+            this.size = align(HEADER + fields);
+        }
+
+    }
+
+}
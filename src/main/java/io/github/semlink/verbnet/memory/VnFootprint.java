@@ -0,0 +1,97 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.memory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.Accessors;
+
+/**
+ * Estimated memory footprint of a {@link io.github.semlink.verbnet.VnIndex}, broken down by component. Each object is
+ * attributed to a single component, so the component sizes sum to the estimated retained size of the index.
+ *
+ * @author jgung
+ */
+@Getter
+@Accessors(fluent = true)
+public class VnFootprint {
+
+    private final List<Component> components;
+    private final long duplicateStrings;
+    private final long duplicateStringBytes;
+
+    VnFootprint(@NonNull List<Component> components, long duplicateStrings, long duplicateStringBytes) {
+        this.components = Collections.unmodifiableList(new ArrayList<>(components));
+        this.duplicateStrings = duplicateStrings;
+        this.duplicateStringBytes = duplicateStringBytes;
+    }
+
+    /**
+     * Return the estimated retained size of the index in bytes.
+     */
+    public long totalBytes() {
+        return components.stream().mapToLong(Component::bytes).sum();
+    }
+
+    /**
+     * Return the number of objects in the index.
+     */
+    public long totalObjects() {
+        return components.stream().mapToLong(Component::objects).sum();
+    }
+
+    /**
+     * Return the estimated size of a given component in bytes, or 0 if not present.
+     */
+    public long bytes(@NonNull String component) {
+        return components.stream()
+                .filter(c -> c.name().equals(component))
+                .mapToLong(Component::bytes)
+                .sum();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder(String.format("%-24s %14s %12s%n", "component", "bytes", "objects"));
+        for (Component component : components) {
+            result.append(String.format("%-24s %14d %12d%n", component.name, component.bytes, component.objects));
+        }
+        result.append(String.format("%-24s %14d %12d%n", "total", totalBytes(), totalObjects()));
+        result.append(String.format("%-24s %14d %12d", "duplicate strings", duplicateStringBytes, duplicateStrings));
+        return result.toString();
+    }
+
+    /**
+     * Estimated size of a single component of an index, e.g. its frames.
+     */
+    @Getter
+    @Accessors(fluent = true)
+    @AllArgsConstructor
+    public static class Component {
+
+        private final String name;
+        private final long bytes;
+        private final long objects;
+
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import io.github.semlink.verbnet.VnClass;
+import io.github.semlink.verbnet.VnThematicRole;
+import io.github.semlink.verbnet.index.FrameFeature;
+import io.github.semlink.verbnet.index.VnOrdinals;
+import lombok.NonNull;
+
+/**
+ * Structured query over classes, combining constraints with AND.
+ *
+ * @author jgung
+ */
+public final class ClassQuery {
+
+    private final VnQuery query;
+    private final List<Constraint> constraints = new ArrayList<>();
+
+    ClassQuery(VnQuery query) {
+        this.query = query;
+    }
+
+    /**
+     * Require a class with a given ID or one of its subclasses, e.g. "45" or "begin-55.1".
+     */
+    public ClassQuery underId(@NonNull String id) {
+        constraints.add(Constraint.bits("under " + id, query.classesUnderId(id)));
+        return this;
+    }
+
+    /**
+     * Require a class with a member of a given lemma.
+     */
+    public ClassQuery withLemma(@NonNull String lemma) {
+        constraints.add(Constraint.bits("lemma " + lemma, query.classesWithLemma(lemma)));
+        return this;
+    }
+
+    /**
+     * Require a class with a member having a given feature, e.g. "increase", as indexed when the {@link
+     * io.github.semlink.verbnet.VnIndex} was constructed.
+     */
+    public ClassQuery withMemberFeature(@NonNull String feature) {
+        constraints.add(Constraint.bits("member feature " + feature, query.classesWithMemberFeature(feature)));
+        return this;
+    }
+
+    /**
+     * Require a class declaring or inheriting a given thematic role, e.g. "Agent".
+     */
+    public ClassQuery withRole(@NonNull String role) {
+        return where("role " + role, cls -> {
+            for (VnThematicRole thematicRole : cls.rolesIncludeInherited()) {
+                if (role.equals(thematicRole.type())) {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Require a class declaring a frame with a given feature, e.g. {@link FrameFeature#PREDICATE} "cause".
+     */
+    public ClassQuery withFrame(@NonNull FrameFeature feature, @NonNull String key) {
+        constraints.add(Constraint.sorted("frame " + feature + " " + key, query.features().count(feature, key),
+                () -> query.classesWithFrame(feature, key)));
+        return this;
+    }
+
+    /**
+     * Require a class declaring a frame with a semantic predicate of a given type, e.g. "cause".
+     */
+    public ClassQuery withPredicate(@NonNull String predicate) {
+        return withFrame(FrameFeature.PREDICATE, predicate);
+    }
+
+    /**
+     * Require an arbitrary condition, evaluated on each candidate class remaining after indexed constraints.
+     *
+     * @param description description of the condition, used in {@link QueryPlan plans}
+     * @param predicate   class condition
+     */
+    public ClassQuery where(@NonNull String description, @NonNull Predicate<VnClass> predicate) {
+        VnOrdinals ordinals = query.ordinals();
+        constraints.add(Constraint.scan(description, ordinals.classCount(),
+                cls -> predicate.test(ordinals.verbClass(cls))));
+        return this;
+    }
+
+    /**
+     * Compile this query into a {@link QueryPlan}.
+     */
+    public QueryPlan plan() {
+        return new QueryPlan(query.ordinals().classCount(), constraints);
+    }
+
+    /**
+     * Return the {@link VnOrdinals class ordinals} of all matching classes, in ascending order.
+     */
+    public int[] ordinals() {
+        return plan().execute();
+    }
+
+    /**
+     * Return the number of matching classes.
+     */
+    public int count() {
+        return ordinals().length;
+    }
+
+    /**
+     * Return all matching classes, in class ordinal order.
+     */
+    public List<VnClass> list() {
+        int[] classes = ordinals();
+        List<VnClass> result = new ArrayList<>(classes.length);
+        for (int cls : classes) {
+            result.add(query.ordinals().verbClass(cls));
+        }
+        return result;
+    }
+
+}
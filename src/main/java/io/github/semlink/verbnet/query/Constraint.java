@@ -0,0 +1,154 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.query;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+
+/**
+ * Single query constraint over a space of dense ordinals (classes or frames). A constraint backed by an index can
+ * enumerate its matches directly, and reports how many there are, so that a plan can start from the most selective
+ * one. Other constraints can only test candidates.
+ *
+ * @author jgung
+ */
+abstract class Constraint {
+
+    private final String description;
+
+    Constraint(String description) {
+        this.description = description;
+    }
+
+    /**
+     * Return true if {@link #candidates()} can be enumerated from an index.
+     */
+    abstract boolean indexed();
+
+    /**
+     * Return the number of matches of an indexed constraint, or an upper bound for a scanned one.
+     */
+    abstract int estimate();
+
+    /**
+     * Return all matching ordinals in ascending order. Only supported by indexed constraints.
+     */
+    abstract int[] candidates();
+
+    /**
+     * Return true if a given ordinal matches this constraint.
+     */
+    abstract boolean test(int ordinal);
+
+    @Override
+    public String toString() {
+        return description;
+    }
+
+    /**
+     * Constraint backed by a sorted array of matching ordinals, computed on first use.
+     */
+    static Constraint sorted(String description, int estimate, Supplier<int[]> ordinals) {
+        return new Constraint(description) {
+
+            private int[] matches;
+
+            @Override
+            boolean indexed() {
+                return true;
+            }
+
+            @Override
+            int estimate() {
+                return null == matches ? estimate : matches.length;
+            }
+
+            @Override
+            int[] candidates() {
+                if (null == matches) {
+                    matches = ordinals.get();
+                }
+                return matches;
+            }
+
+            @Override
+            boolean test(int ordinal) {
+                return Arrays.binarySearch(candidates(), ordinal) >= 0;
+            }
+        };
+    }
+
+    /**
+     * Constraint backed by a set of matching ordinals.
+     */
+    static Constraint bits(String description, BitSet matches) {
+        return new Constraint(description) {
+
+            private final int count = matches.cardinality();
+
+            @Override
+            boolean indexed() {
+                return true;
+            }
+
+            @Override
+            int estimate() {
+                return count;
+            }
+
+            @Override
+            int[] candidates() {
+                return matches.stream().toArray();
+            }
+
+            @Override
+            boolean test(int ordinal) {
+                return matches.get(ordinal);
+            }
+        };
+    }
+
+    /**
+     * Constraint that can only be evaluated by testing each candidate.
+     */
+    static Constraint scan(String description, int size, IntPredicate predicate) {
+        return new Constraint(description) {
+            @Override
+            boolean indexed() {
+                return false;
+            }
+
+            @Override
+            int estimate() {
+                return size;
+            }
+
+            @Override
+            int[] candidates() {
+                throw new UnsupportedOperationException("Constraint is not indexed: " + description);
+            }
+
+            @Override
+            boolean test(int ordinal) {
+                return predicate.test(ordinal);
+            }
+        };
+    }
+
+}
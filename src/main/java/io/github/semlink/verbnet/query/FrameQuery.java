@@ -0,0 +1,185 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.query;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+import io.github.semlink.verbnet.VnClass;
+import io.github.semlink.verbnet.VnFrame;
+import io.github.semlink.verbnet.index.FrameFeature;
+import io.github.semlink.verbnet.index.FrameFeatureIndex;
+import io.github.semlink.verbnet.index.VnOrdinals;
+import lombok.NonNull;
+
+/**
+ * Structured query over frames, combining constraints with AND. Frame content constraints are answered from the
+ * {@link FrameFeatureIndex}.
+ *
+ * @author jgung
+ */
+public final class FrameQuery {
+
+    private final VnQuery query;
+    private final List<Constraint> constraints = new ArrayList<>();
+
+    FrameQuery(VnQuery query) {
+        this.query = query;
+    }
+
+    /**
+     * Require a frame feature, e.g. {@link FrameFeature#PREPOSITION} "into".
+     */
+    public FrameQuery with(@NonNull FrameFeature feature, @NonNull String key) {
+        FrameFeatureIndex features = query.features();
+        constraints.add(Constraint.sorted(feature + " " + key, features.count(feature, key),
+                () -> features.frameOrdinals(feature, key)));
+        return this;
+    }
+
+    /**
+     * Require an NP with a given thematic role, e.g. "Instrument".
+     */
+    public FrameQuery withRole(@NonNull String role) {
+        return with(FrameFeature.ROLE, role);
+    }
+
+    /**
+     * Require a semantic predicate of a given type, e.g. "cause".
+     */
+    public FrameQuery withPredicate(@NonNull String predicate) {
+        return with(FrameFeature.PREDICATE, predicate);
+    }
+
+    /**
+     * Require a semantic predicate argument with a given value, e.g. "Agent".
+     */
+    public FrameQuery withArgument(@NonNull String value) {
+        return with(FrameFeature.ARGUMENT, value);
+    }
+
+    /**
+     * Require a PREP allowing a given preposition, e.g. "into".
+     */
+    public FrameQuery withPreposition(@NonNull String preposition) {
+        return with(FrameFeature.PREPOSITION, preposition);
+    }
+
+    /**
+     * Require a selectional restriction, e.g. "+concrete" or "concrete".
+     */
+    public FrameQuery withSelectionalRestriction(@NonNull String restriction) {
+        return with(FrameFeature.SELECTIONAL_RESTRICTION, restriction);
+    }
+
+    /**
+     * Require a syntactic restriction, e.g. "+that_comp".
+     */
+    public FrameQuery withSyntacticRestriction(@NonNull String restriction) {
+        return with(FrameFeature.SYNTACTIC_RESTRICTION, restriction);
+    }
+
+    /**
+     * Require a given sequence of syntax element types, e.g. "NP V NP PP". See {@link FrameFeatureIndex#syntaxKey(String)}.
+     */
+    public FrameQuery withSyntax(@NonNull String pattern) {
+        return with(FrameFeature.SYNTAX, pattern);
+    }
+
+    /**
+     * Require frames declared by a class with a given ID or one of its subclasses, e.g. "45" or "begin-55.1".
+     */
+    public FrameQuery underId(@NonNull String id) {
+        constraints.add(Constraint.bits("under " + id, query.framesOf(query.classesUnderId(id))));
+        return this;
+    }
+
+    /**
+     * Require frames declared by the class with a given ID.
+     */
+    public FrameQuery inClass(@NonNull String id) {
+        constraints.add(Constraint.bits("in " + id, query.framesOf(query.classesWithId(id))));
+        return this;
+    }
+
+    /**
+     * Require frames available to a given lemma, declared by a class with a member of that lemma or inherited by it.
+     */
+    public FrameQuery withLemma(@NonNull String lemma) {
+        VnOrdinals ordinals = query.ordinals();
+        BitSet classes = query.classesWithLemma(lemma);
+        for (int cls = classes.nextSetBit(0); cls >= 0; cls = classes.nextSetBit(cls + 1)) {
+            for (VnClass ancestor : ordinals.verbClass(cls).ancestors()) {
+                int ordinal = ordinals.ordinal(ancestor);
+                if (ordinal >= 0) {
+                    classes.set(ordinal);
+                }
+            }
+        }
+        constraints.add(Constraint.bits("lemma " + lemma, query.framesOf(classes)));
+        return this;
+    }
+
+    /**
+     * Require an arbitrary condition, evaluated on each candidate frame remaining after indexed constraints.
+     *
+     * @param description description of the condition, used in {@link QueryPlan plans}
+     * @param predicate   frame condition
+     */
+    public FrameQuery where(@NonNull String description, @NonNull Predicate<VnFrame> predicate) {
+        VnOrdinals ordinals = query.ordinals();
+        constraints.add(Constraint.scan(description, ordinals.frameCount(),
+                frame -> predicate.test(ordinals.frame(frame))));
+        return this;
+    }
+
+    /**
+     * Compile this query into a {@link QueryPlan}.
+     */
+    public QueryPlan plan() {
+        return new QueryPlan(query.ordinals().frameCount(), constraints);
+    }
+
+    /**
+     * Return the global {@link VnOrdinals frame ordinals} of all matching frames, in ascending order.
+     */
+    public int[] ordinals() {
+        return plan().execute();
+    }
+
+    /**
+     * Return the number of matching frames.
+     */
+    public int count() {
+        return ordinals().length;
+    }
+
+    /**
+     * Return all matching frames, in class order.
+     */
+    public List<VnFrame> list() {
+        int[] frames = ordinals();
+        List<VnFrame> result = new ArrayList<>(frames.length);
+        for (int frame : frames) {
+            result.add(query.ordinals().frame(frame));
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Compiled query plan over a space of dense class or frame ordinals. Matches are enumerated from the most selective
+ * indexed constraint, or by scanning all ordinals if no constraint is indexed, and every remaining constraint is then
+ * tested against each candidate in turn.
+ *
+ * @author jgung
+ */
+public final class QueryPlan {
+
+    private final int size;
+    private final List<Constraint> constraints;
+
+    QueryPlan(int size, List<Constraint> constraints) {
+        this.size = size;
+        List<Constraint> ordered = new ArrayList<>(constraints);
+        // indexed constraints first, most selective first; scans keep the order in which they were given
+        ordered.sort(Comparator.comparing((Constraint constraint) -> !constraint.indexed())
+                .thenComparing(constraint -> constraint.indexed() ? constraint.estimate() : 0));
+        this.constraints = Collections.unmodifiableList(ordered);
+    }
+
+    /**
+     * Return a description of each step of this plan, in evaluation order.
+     */
+    public List<String> steps() {
+        List<String> steps = new ArrayList<>();
+        int start = 0;
+        if (!constraints.isEmpty() && constraints.get(0).indexed()) {
+            steps.add(String.format("seek %s (%d)", constraints.get(0), constraints.get(0).estimate()));
+            start = 1;
+        } else {
+            steps.add(String.format("scan all (%d)", size));
+        }
+        for (Constraint constraint : constraints.subList(start, constraints.size())) {
+            steps.add(String.format("%s %s", constraint.indexed() ? "probe" : "test", constraint));
+        }
+        return steps;
+    }
+
+    /**
+     * Execute this plan.
+     *
+     * @return matching ordinals in ascending order
+     */
+    int[] execute() {
+        int start = 0;
+        int[] seed = null;
+        if (!constraints.isEmpty() && constraints.get(0).indexed()) {
+            seed = constraints.get(0).candidates();
+            start = 1;
+        }
+        int count = null == seed ? size : seed.length;
+        int[] result = new int[count];
+        int matches = 0;
+        Constraint[] remaining = constraints.subList(start, constraints.size()).toArray(new Constraint[0]);
+        for (int i = 0; i < count; ++i) {
+            int ordinal = null == seed ? i : seed[i];
+            boolean match = true;
+            for (int j = 0; j < remaining.length && match; ++j) {
+                match = remaining[j].test(ordinal);
+            }
+            if (match) {
+                result[matches++] = ordinal;
+            }
+        }
+        return Arrays.copyOf(result, matches);
+    }
+
+    @Override
+    public String toString() {
+        return String.join("\n", steps());
+    }
+
+}
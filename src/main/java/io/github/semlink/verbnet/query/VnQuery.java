@@ -0,0 +1,180 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.query;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import io.github.semlink.verbnet.VnClass;
+import io.github.semlink.verbnet.VnClassId;
+import io.github.semlink.verbnet.VnIndex;
+import io.github.semlink.verbnet.VnMember;
+import io.github.semlink.verbnet.index.FrameFeature;
+import io.github.semlink.verbnet.index.FrameFeatureIndex;
+import io.github.semlink.verbnet.index.VnOrdinals;
+import lombok.NonNull;
+
+/**
+ * Entry point for structured queries over the classes and frames of a {@link VnIndex}, e.g.
+ * <pre>
+ * List&lt;VnFrame&gt; frames = vnIndex.query().frames()
+ *     .withRole("Instrument")
+ *     .withPredicate("cause")
+ *     .withSyntax("NP V NP PP")
+ *     .list();
+ * List&lt;VnClass&gt; classes = vnIndex.query().classes()
+ *     .underId("45")
+ *     .withMemberFeature("increase")
+ *     .list();
+ * </pre>
+ * Queries are compiled into a {@link QueryPlan} that starts from the most selective indexed constraint.
+ *
+ * @author jgung
+ */
+public final class VnQuery {
+
+    private final VnIndex index;
+    private final VnOrdinals ordinals;
+    private FrameFeatureIndex features;
+
+    public VnQuery(@NonNull VnIndex index) {
+        this.index = index;
+        this.ordinals = index.ordinals();
+    }
+
+    /**
+     * Start a new query over frames.
+     */
+    public FrameQuery frames() {
+        return new FrameQuery(this);
+    }
+
+    /**
+     * Start a new query over classes.
+     */
+    public ClassQuery classes() {
+        return new ClassQuery(this);
+    }
+
+    VnIndex index() {
+        return index;
+    }
+
+    VnOrdinals ordinals() {
+        return ordinals;
+    }
+
+    synchronized FrameFeatureIndex features() {
+        if (null == features) {
+            features = index.frameFeatureIndex();
+        }
+        return features;
+    }
+
+    /**
+     * Return the class ordinals of a class with a given ID and all of its descendants, e.g. "45" for all classes with IDs
+     * starting with "45.", or "begin-55.1" for that class and its subclasses.
+     */
+    BitSet classesUnderId(String id) {
+        BitSet result = new BitSet(ordinals.classCount());
+        for (VnClass cls : index.classIdIndex().prefix(id)) {
+            int ordinal = ordinals.ordinal(cls);
+            if (ordinal >= 0) {
+                result.set(ordinal);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Return the class ordinal of a class with a given ID.
+     */
+    BitSet classesWithId(String id) {
+        String classId = classId(id);
+        BitSet result = new BitSet(ordinals.classCount());
+        for (int cls = 0; cls < ordinals.classCount(); ++cls) {
+            if (ordinals.verbClass(cls).verbNetId().classId().equals(classId)) {
+                result.set(cls);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Return the ordinals of classes with a member of a given lemma.
+     */
+    BitSet classesWithLemma(String lemma) {
+        BitSet result = new BitSet(ordinals.classCount());
+        for (VnClass cls : index.getByLemma(lemma)) {
+            int ordinal = ordinals.ordinal(cls);
+            if (ordinal >= 0) {
+                result.set(ordinal);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Return the ordinals of classes with a member having a given feature.
+     */
+    BitSet classesWithMemberFeature(String feature) {
+        BitSet result = new BitSet(ordinals.classCount());
+        for (VnMember member : index.getMembersByFeature(feature)) {
+            int ordinal = ordinals.ordinal(member.verbClass());
+            if (ordinal >= 0) {
+                result.set(ordinal);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Return the ordinals of classes containing a frame with a given feature.
+     */
+    int[] classesWithFrame(FrameFeature feature, String key) {
+        int[] frames = features().frameOrdinals(feature, key);
+        int[] result = new int[frames.length];
+        int count = 0;
+        for (int frame : frames) {
+            int cls = ordinals.frameClass(frame);
+            if (count == 0 || result[count - 1] != cls) {
+                result[count++] = cls;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Return the frame ordinals of all frames of a given set of classes.
+     */
+    BitSet framesOf(BitSet classes) {
+        BitSet result = new BitSet(ordinals.frameCount());
+        for (int cls = classes.nextSetBit(0); cls >= 0; cls = classes.nextSetBit(cls + 1)) {
+            result.set(ordinals.firstFrame(cls), ordinals.endFrame(cls));
+        }
+        return result;
+    }
+
+    private static String classId(String id) {
+        try {
+            return VnClassId.parse(id).classId();
+        } catch (IllegalArgumentException e) {
+            return id;
+        }
+    }
+
+}
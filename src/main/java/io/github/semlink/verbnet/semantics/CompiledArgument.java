@@ -0,0 +1,169 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.semantics;
+
+import java.util.function.UnaryOperator;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.Accessors;
+
+/**
+ * Typed form of a {@link VnSemanticArgument}, parsed once from its type and value strings. Event variables are reduced
+ * to numeric subevent indices: "E" is the whole event ({@value #WHOLE_EVENT}), and "e1" or "&euml;1" is subevent 1.
+ * Phased event variables from older VerbNet versions, e.g. "during(E)", refer to the whole event with a {@link
+ * #phase() phase}.
+ * <p>
+ * Instances are immutable. Arguments loaded from XML share one instance per type and value within a load or {@link
+ * io.github.semlink.verbnet.VnIndexRegistry registry}, with references interned through the load's string table, so
+ * that they may be compared by identity.
+ *
+ * @author jgung
+ */
+@Getter
+@Accessors(fluent = true)
+public final class CompiledArgument {
+
+    /**
+     * Subevent index of arguments that are not event variables.
+     */
+    public static final int NO_SUBEVENT = -1;
+    /**
+     * Subevent index of the whole event, "E".
+     */
+    public static final int WHOLE_EVENT = 0;
+
+    // prefix of marked subevent variables, e.g. "\u00EB2"
+    private static final char E_DIAERESIS = '\u00EB';
+
+    /**
+     * Kind of argument, e.g. {@link VnArgumentKind#THEMATIC_ROLE}.
+     */
+    private final VnArgumentKind kind;
+    /**
+     * Reference, e.g. "Agent" for "?Agent", or the event variable itself, e.g. "e1".
+     */
+    private final String reference;
+    /**
+     * Subevent index of an event variable, e.g. 2 for "e2", {@value #WHOLE_EVENT} for "E", or {@value #NO_SUBEVENT}.
+     */
+    private final int subevent;
+    /**
+     * True for thematic roles prefixed with "?", which may be left unexpressed, e.g. "?Attribute".
+     */
+    private final boolean optional;
+    /**
+     * True for subevent variables written with a diaeresis, e.g. "&euml;2".
+     */
+    private final boolean marked;
+    /**
+     * Phase of a phased event variable, e.g. "during" for "during(E)", or null.
+     */
+    private final String phase;
+
+    private CompiledArgument(VnArgumentKind kind, String reference, int subevent, boolean optional, boolean marked,
+                             String phase) {
+        this.kind = kind;
+        this.reference = reference;
+        this.subevent = subevent;
+        this.optional = optional;
+        this.marked = marked;
+        this.phase = phase;
+    }
+
+    /**
+     * Return true if this argument is a variable for the whole event or one of its subevents.
+     */
+    public boolean isEvent() {
+        return subevent != NO_SUBEVENT;
+    }
+
+    /**
+     * Return the typed form of a given argument.
+     */
+    public static CompiledArgument compile(@NonNull VnSemanticArgument argument) {
+        return compile(argument.type(), argument.value());
+    }
+
+    /**
+     * Return the typed form of an argument with the given type and value, without sharing or interning.
+     *
+     * @param type  argument type, e.g. "Event"
+     * @param value argument value, e.g. "e1"
+     * @return new typed argument
+     */
+    public static CompiledArgument compile(String type, String value) {
+        return compile(type, value, UnaryOperator.identity());
+    }
+
+    /**
+     * Return the typed form of an argument with the given type and value, with its reference and phase interned through
+     * a given function, e.g. a load-scoped {@link io.github.semlink.verbnet.xml.util.StringTable}.
+     *
+     * @param type    argument type, e.g. "Event"
+     * @param value   argument value, e.g. "e1"
+     * @param strings string interning function
+     * @return new typed argument
+     */
+    public static CompiledArgument compile(String type, String value, @NonNull UnaryOperator<String> strings) {
+        VnArgumentKind kind = VnArgumentKind.fromType(type);
+        String trimmed = null == value ? "" : value.trim();
+        if (kind == VnArgumentKind.EVENT) {
+            return parseEvent(trimmed, strings);
+        }
+        boolean optional = kind == VnArgumentKind.THEMATIC_ROLE && trimmed.startsWith("?");
+        String reference = optional ? trimmed.substring(1) : trimmed;
+        return new CompiledArgument(kind, strings.apply(reference), NO_SUBEVENT, optional, false, null);
+    }
+
+    private static CompiledArgument parseEvent(String value, UnaryOperator<String> strings) {
+        int open = value.indexOf('(');
+        if (open > 0 && value.endsWith(")")) {
+            // phased event from older versions, e.g. "during(E)"
+            CompiledArgument event = parseEvent(value.substring(open + 1, value.length() - 1).trim(), strings);
+            return new CompiledArgument(VnArgumentKind.EVENT, strings.apply(value), event.subevent, false, event.marked,
+                    strings.apply(value.substring(0, open).trim()));
+        }
+        int subevent = NO_SUBEVENT;
+        boolean marked = false;
+        if ("E".equals(value)) {
+            subevent = WHOLE_EVENT;
+        } else if (value.length() > 1 && (value.charAt(0) == 'e' || value.charAt(0) == E_DIAERESIS)) {
+            marked = value.charAt(0) == E_DIAERESIS;
+            subevent = parseIndex(value);
+        }
+        return new CompiledArgument(VnArgumentKind.EVENT, strings.apply(value), subevent, false, marked, null);
+    }
+
+    private static int parseIndex(String variable) {
+        int index = 0;
+        for (int i = 1; i < variable.length(); ++i) {
+            char c = variable.charAt(i);
+            if (c < '0' || c > '9' || index > (Integer.MAX_VALUE - 9) / 10) {
+                return NO_SUBEVENT;
+            }
+            index = index * 10 + (c - '0');
+        }
+        return index > 0 ? index : NO_SUBEVENT;
+    }
+
+    @Override
+    public String toString() {
+        return (optional ? "?" : "") + reference;
+    }
+
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.semantics;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
+import io.github.semlink.verbnet.VnClass;
+import io.github.semlink.verbnet.VnFrame;
+import io.github.semlink.verbnet.VnFrameDescription;
+import io.github.semlink.verbnet.VnMember;
+import io.github.semlink.verbnet.syntax.VnSyntax;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.Accessors;
+
+/**
+ * Binding of verb-specific semantic arguments, e.g. "V_Direction", to the features of a {@link VnMember member}, e.g.
+ * "increase". Only arguments of type {@value #VERB_SPECIFIC} with values starting with {@value #SLOT_PREFIX} are bound;
+ * other verb-specific values such as "Result" are left unchanged. A member with several features binds each slot to
+ * its features joined by spaces.
+ *
+ * @author jgung
+ */
+public final class FeatureBinding {
+
+    /**
+     * Type of semantic arguments filled by members.
+     */
+    public static final String VERB_SPECIFIC = "VerbSpecific";
+    /**
+     * Prefix of verb-specific argument values bound to member features.
+     */
+    public static final String SLOT_PREFIX = "V_";
+
+    private FeatureBinding() {
+    }
+
+    /**
+     * Return the given frames with verb-specific slots in their predicates bound to the given member features. Frames
+     * without any slots are returned as is, and if there are no features, the input list is returned.
+     *
+     * @param frames   frames, e.g. from {@link VnClass#framesIncludeInherited()}
+     * @param features member features, e.g. from {@link VnMember#features()}
+     * @return frames with bound predicates
+     */
+    public static List<VnFrame> bind(@NonNull List<VnFrame> frames, @NonNull List<String> features) {
+        if (features.isEmpty()) {
+            return frames;
+        }
+        String value = String.join(" ", features);
+        ImmutableList.Builder<VnFrame> result = ImmutableList.builder();
+        for (VnFrame frame : frames) {
+            result.add(hasSlot(frame) ? new BoundFrame(frame, value) : frame);
+        }
+        return result.build();
+    }
+
+    /**
+     * Return true if a given argument is a verb-specific slot bound to member features.
+     */
+    public static boolean isSlot(@NonNull VnSemanticArgument argument) {
+        return VERB_SPECIFIC.equals(argument.type()) && null != argument.value()
+                && argument.value().startsWith(SLOT_PREFIX);
+    }
+
+    private static boolean hasSlot(VnFrame frame) {
+        for (VnSemanticPredicate predicate : frame.predicates()) {
+            for (VnSemanticArgument argument : predicate.semanticArguments()) {
+                if (isSlot(argument)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Verb-specific argument bound to member features.
+     */
+    @Getter
+    @Accessors(fluent = true)
+    public static final class BoundArgument implements VnSemanticArgument {
+
+        /**
+         * Original verb-specific slot, e.g. "V_Direction".
+         */
+        private final String slot;
+        /**
+         * Member features filling the slot, e.g. "increase".
+         */
+        private final String value;
+
+        private BoundArgument(String slot, String value) {
+            this.slot = slot;
+            this.value = value;
+        }
+
+        @Override
+        public String type() {
+            return VERB_SPECIFIC;
+        }
+
+        @Override
+        public String toString() {
+            return slot + "=" + value;
+        }
+
+    }
+
+    private static final class BoundPredicate implements VnSemanticPredicate {
+
+        private final VnSemanticPredicate predicate;
+        private final List<VnSemanticArgument> arguments;
+
+        private BoundPredicate(VnSemanticPredicate predicate, List<VnSemanticArgument> arguments) {
+            this.predicate = predicate;
+            this.arguments = arguments;
+        }
+
+        @Override
+        public VnPredicatePolarity polarity() {
+            return predicate.polarity();
+        }
+
+        @Override
+        public String type() {
+            return predicate.type();
+        }
+
+        @Override
+        public List<VnSemanticArgument> semanticArguments() {
+            return arguments;
+        }
+
+        @Override
+        public String toString() {
+            return predicate.type() + arguments;
+        }
+
+    }
+
+    private static final class BoundFrame implements VnFrame {
+
+        private final VnFrame frame;
+        private final List<VnSemanticPredicate> predicates;
+
+        private BoundFrame(VnFrame frame, String value) {
+            this.frame = frame;
+            ImmutableList.Builder<VnSemanticPredicate> predicates = ImmutableList.builder();
+            for (VnSemanticPredicate predicate : frame.predicates()) {
+                boolean bound = false;
+                ImmutableList.Builder<VnSemanticArgument> arguments = ImmutableList.builder();
+                for (VnSemanticArgument argument : predicate.semanticArguments()) {
+                    if (isSlot(argument)) {
+                        arguments.add(new BoundArgument(argument.value(), value));
+                        bound = true;
+                    } else {
+                        arguments.add(argument);
+                    }
+                }
+                predicates.add(bound ? new BoundPredicate(predicate, arguments.build()) : predicate);
+            }
+            this.predicates = predicates.build();
+        }
+
+        @Override
+        public VnFrameDescription description() {
+            return frame.description();
+        }
+
+        @Override
+        public List<String> examples() {
+            return frame.examples();
+        }
+
+        @Override
+        public List<VnSyntax> syntax() {
+            return frame.syntax();
+        }
+
+        @Override
+        public List<VnSemanticPredicate> predicates() {
+            return predicates;
+        }
+
+        @Override
+        public VnClass verbClass() {
+            return frame.verbClass();
+        }
+
+        @Override
+        public String primary() {
+            return frame.primary();
+        }
+
+        @Override
+        public String secondary() {
+            return frame.secondary();
+        }
+
+        @Override
+        public String descriptionNumber() {
+            return frame.descriptionNumber();
+        }
+
+        @Override
+        public String xtag() {
+            return frame.xtag();
+        }
+
+        @Override
+        public String toString() {
+            return frame.toString();
+        }
+
+    }
+
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.semantics;
+
+import com.google.common.collect.ImmutableSet;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import io.github.semlink.verbnet.VnFrame;
+import lombok.NonNull;
+
+/**
+ * Ordering graph over the subevents of a frame's semantic predicates. Each predicate relating several numbered
+ * subevents, e.g. "cause(e2, e3)", orders them by argument position, except for unordered relations such as
+ * "co-temporal", and {@link #precedes(int, int)} follows these edges transitively. Subevents and their successors are
+ * kept as bit sets, and the predicates over each subevent as arrays of positions, so queries do not touch any strings.
+ * Subevents numbered above {@value #MAX_SUBEVENT} are ignored.
+ *
+ * @author jgung
+ */
+public final class SubeventGraph {
+
+    /**
+     * Highest supported subevent index.
+     */
+    public static final int MAX_SUBEVENT = 63;
+
+    private static final int[] EMPTY = new int[0];
+    private static final Set<String> UNORDERED = ImmutableSet.of("co-temporal", "cotemporal");
+
+    // subevents mentioned by any predicate, including the whole event (bit 0)
+    private final long subevents;
+    // direct and transitive successors of each subevent
+    private final long[] successors;
+    private final long[] reachable;
+    // positions of the predicates over each subevent
+    private final int[][] predicates;
+
+    private SubeventGraph(long subevents, long[] successors, long[] reachable, int[][] predicates) {
+        this.subevents = subevents;
+        this.successors = successors;
+        this.reachable = reachable;
+        this.predicates = predicates;
+    }
+
+    /**
+     * Build the subevent graph of a given frame.
+     */
+    public static SubeventGraph of(@NonNull VnFrame frame) {
+        return of(frame.predicates());
+    }
+
+    /**
+     * Build the subevent graph of a given sequence of semantic predicates.
+     */
+    public static SubeventGraph of(@NonNull List<VnSemanticPredicate> predicates) {
+        long subevents = 0;
+        long[] successors = new long[MAX_SUBEVENT + 1];
+        long[] predicateSets = new long[MAX_SUBEVENT + 1];
+        int[] counts = new int[MAX_SUBEVENT + 1];
+        int[][] positions = new int[MAX_SUBEVENT + 1][];
+        for (int position = 0; position < predicates.size(); ++position) {
+            VnSemanticPredicate predicate = predicates.get(position);
+            boolean ordered = !UNORDERED.contains(predicate.type());
+            int previous = CompiledArgument.NO_SUBEVENT;
+            long mentioned = 0;
+            for (VnSemanticArgument argument : predicate.semanticArguments()) {
+                int subevent = argument.compiled().subevent();
+                if (subevent < 0 || subevent > MAX_SUBEVENT) {
+                    continue;
+                }
+                mentioned |= 1L << subevent;
+                if (subevent == CompiledArgument.WHOLE_EVENT) {
+                    continue;
+                }
+                if (ordered && previous > 0 && previous != subevent) {
+                    successors[previous] |= 1L << subevent;
+                }
+                previous = subevent;
+            }
+            subevents |= mentioned;
+            for (long rest = mentioned; rest != 0; rest &= rest - 1) {
+                int subevent = Long.numberOfTrailingZeros(rest);
+                if (null == positions[subevent]) {
+                    positions[subevent] = new int[4];
+                } else if (counts[subevent] == positions[subevent].length) {
+                    positions[subevent] = Arrays.copyOf(positions[subevent], counts[subevent] * 2);
+                }
+                positions[subevent][counts[subevent]++] = position;
+            }
+        }
+        int size = 64 - Long.numberOfLeadingZeros(subevents);
+        long[] direct = Arrays.copyOf(successors, size);
+        int[][] byEvent = new int[size][];
+        for (int subevent = 0; subevent < size; ++subevent) {
+            byEvent[subevent] = null == positions[subevent] ? EMPTY
+                    : Arrays.copyOf(positions[subevent], counts[subevent]);
+        }
+        return new SubeventGraph(subevents, direct, closure(direct), byEvent);
+    }
+
+    private static long[] closure(long[] successors) {
+        long[] reachable = successors.clone();
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int subevent = 0; subevent < reachable.length; ++subevent) {
+                long next = reachable[subevent];
+                for (long rest = reachable[subevent]; rest != 0; rest &= rest - 1) {
+                    int successor = Long.numberOfTrailingZeros(rest);
+                    if (successor < reachable.length) {
+                        next |= reachable[successor];
+                    }
+                }
+                if (next != reachable[subevent]) {
+                    reachable[subevent] = next;
+                    changed = true;
+                }
+            }
+        }
+        return reachable;
+    }
+
+    /**
+     * Return true if any predicate refers to a given subevent, or to the whole event for {@link
+     * CompiledArgument#WHOLE_EVENT}.
+     */
+    public boolean contains(int subevent) {
+        return subevent >= 0 && subevent <= MAX_SUBEVENT && (subevents & (1L << subevent)) != 0;
+    }
+
+    /**
+     * Return the numbered subevents referred to by any predicate, in ascending order.
+     */
+    public int[] subevents() {
+        return indices(subevents & ~1L);
+    }
+
+    /**
+     * Return true if one subevent precedes another, directly or transitively.
+     */
+    public boolean precedes(int first, int second) {
+        return first > 0 && first < reachable.length && second > 0 && second <= MAX_SUBEVENT
+                && (reachable[first] & (1L << second)) != 0;
+    }
+
+    /**
+     * Return the subevents directly following a given subevent, in ascending order.
+     */
+    public int[] successors(int subevent) {
+        return subevent > 0 && subevent < successors.length ? indices(successors[subevent]) : EMPTY;
+    }
+
+    /**
+     * Return true if the ordering contains a cycle, e.g. from contradictory predicates.
+     */
+    public boolean cyclic() {
+        for (int subevent = 1; subevent < reachable.length; ++subevent) {
+            if ((reachable[subevent] & (1L << subevent)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Return the numbered subevents in an order consistent with the graph, breaking ties by index. Subevents on a cycle
+     * follow in index order.
+     */
+    public int[] order() {
+        int[] result = new int[Long.bitCount(subevents & ~1L)];
+        long remaining = subevents & ~1L;
+        int count = 0;
+        while (remaining != 0) {
+            int next = -1;
+            for (long rest = remaining; rest != 0 && next < 0; rest &= rest - 1) {
+                int candidate = Long.numberOfTrailingZeros(rest);
+                boolean ready = true;
+                for (long others = remaining; others != 0 && ready; others &= others - 1) {
+                    int other = Long.numberOfTrailingZeros(others);
+                    ready = other == candidate || (successors[other] & (1L << candidate)) == 0;
+                }
+                if (ready) {
+                    next = candidate;
+                }
+            }
+            if (next < 0) {
+                next = Long.numberOfTrailingZeros(remaining);
+            }
+            result[count++] = next;
+            remaining &= ~(1L << next);
+        }
+        return result;
+    }
+
+    /**
+     * Return the positions within the frame's predicates of the predicates referring to a given subevent, or to the
+     * whole event for {@link CompiledArgument#WHOLE_EVENT}.
+     */
+    public int[] predicates(int subevent) {
+        return subevent >= 0 && subevent < predicates.length ? predicates[subevent].clone() : EMPTY;
+    }
+
+    private static int[] indices(long bits) {
+        int[] result = new int[Long.bitCount(bits)];
+        int count = 0;
+        for (long rest = bits; rest != 0; rest &= rest - 1) {
+            result[count++] = Long.numberOfTrailingZeros(rest);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+        for (int subevent : subevents()) {
+            for (int successor : successors(subevent)) {
+                result.append(result.length() == 0 ? "" : ", ").append('e').append(subevent).append(" < e")
+                        .append(successor);
+            }
+        }
+        return "[" + result + "]";
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.semantics;
+
+/**
+ * Kind of a {@link VnSemanticArgument}, parsed from its type, e.g. "Event" or "ThemRole".
+ *
+ * @author jgung
+ */
+public enum VnArgumentKind {
+
+    /**
+     * Event or subevent variable, e.g. "e1", "&euml;2", "E", or "during(E)".
+     */
+    EVENT("Event"),
+    /**
+     * Thematic role of the class, e.g. "Agent" or "?Attribute".
+     */
+    THEMATIC_ROLE("ThemRole"),
+    /**
+     * Verb-specific value, e.g. "V_Direction" or "Result".
+     */
+    VERB_SPECIFIC("VerbSpecific"),
+    /**
+     * Constant, e.g. "ch_of_state".
+     */
+    CONSTANT("Constant"),
+    /**
+     * Embedded predicate.
+     */
+    PREDICATE("Predicate"),
+    /**
+     * Any other argument type.
+     */
+    OTHER("");
+
+    private final String type;
+
+    VnArgumentKind(String type) {
+        this.type = type;
+    }
+
+    /**
+     * Return the argument type string for this kind, e.g. "ThemRole", or an empty string for {@link #OTHER}.
+     */
+    public String type() {
+        return type;
+    }
+
+    /**
+     * Return the kind of a given argument type, ignoring case, or {@link #OTHER} if it is not recognized.
+     *
+     * @param type argument type, e.g. "ThemRole"
+     * @return argument kind
+     */
+    public static VnArgumentKind fromType(String type) {
+        if (null != type) {
+            for (VnArgumentKind kind : values()) {
+                if (kind != OTHER && kind.type.equalsIgnoreCase(type)) {
+                    return kind;
+                }
+            }
+        }
+        return OTHER;
+    }
+
+}
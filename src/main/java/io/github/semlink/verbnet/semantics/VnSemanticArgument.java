@@ -33,4 +33,12 @@ public interface VnSemanticArgument {
      */
     String value();
 
+    /**
+     * Return the {@link CompiledArgument typed form} of this argument, with its kind, interned reference and subevent
+     * index.
+     */
+    default CompiledArgument compiled() {
+        return CompiledArgument.compile(this);
+    }
+
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.xml;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Example sentences of all frames of a single class, stored as one deflated UTF-8 block. Blocks produced by the same
+ * {@link ExampleCompressor} share a preset dictionary and an optional cache of decoded blocks. Examples are only
+ * decompressed when requested.
+ *
+ * @author jgung
+ */
+public final class CompressedExamples {
+
+    private final byte[] data;
+    private final int[] ends;
+    private final byte[] dictionary;
+    private final ExampleCompressor.BlockCache cache;
+
+    CompressedExamples(byte[] data, int[] ends, byte[] dictionary, ExampleCompressor.BlockCache cache) {
+        this.data = data;
+        this.ends = ends;
+        this.dictionary = dictionary;
+        this.cache = cache;
+    }
+
+    /**
+     * Return the number of examples in this block.
+     */
+    public int size() {
+        return ends.length;
+    }
+
+    /**
+     * Return the size of this block in bytes once compressed.
+     */
+    public int compressedSize() {
+        return data.length;
+    }
+
+    /**
+     * Return the size of this block in UTF-8 bytes before compression.
+     */
+    public int uncompressedSize() {
+        return ends.length == 0 ? 0 : ends[ends.length - 1];
+    }
+
+    /**
+     * Decompress a range of examples from this block.
+     *
+     * @param from index of first example, inclusive
+     * @param to   index of last example, exclusive
+     * @return new list of decompressed examples
+     */
+    public List<String> examples(int from, int to) {
+        String[] decoded = null == cache ? decode() : cache.get(this);
+        List<String> result = new ArrayList<>(to - from);
+        for (int i = from; i < to; ++i) {
+            result.add(decoded[i]);
+        }
+        return result;
+    }
+
+    String[] decode() {
+        byte[] utf8 = new byte[uncompressedSize()];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            int length = 0;
+            while (length < utf8.length) {
+                int read = inflater.inflate(utf8, length, utf8.length - length);
+                if (read == 0) {
+                    if (inflater.needsDictionary()) {
+                        inflater.setDictionary(dictionary);
+                    } else if (inflater.finished() || inflater.needsInput()) {
+                        throw new IllegalStateException("Truncated example block");
+                    }
+                }
+                length += read;
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt example block", e);
+        } finally {
+            inflater.end();
+        }
+        String[] result = new String[ends.length];
+        int start = 0;
+        for (int i = 0; i < ends.length; ++i) {
+            result[i] = new String(utf8, start, ends[i] - start, StandardCharsets.UTF_8);
+            start = ends[i];
+        }
+        return result;
+    }
+
+}
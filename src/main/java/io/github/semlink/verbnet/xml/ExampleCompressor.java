@@ -0,0 +1,198 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.xml;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+
+import io.github.semlink.verbnet.VnClass;
+import lombok.NonNull;
+
+/**
+ * Replaces the example sentences of VerbNet XML frames with {@link CompressedExamples}, one deflated block per class.
+ * All blocks share a preset dictionary of the most frequent example tokens, which makes the short per-class blocks
+ * compress well. Decoded blocks may optionally be kept in a small shared LRU cache.
+ * <p>
+ * Compression must happen after pointers are set on a hierarchy. Examples are no longer available through {@link
+ * VnFrameXml#exampleElements()} afterwards, only through {@link VnFrameXml#examples()}.
+ *
+ * @author jgung
+ */
+public class ExampleCompressor {
+
+    private static final int MAX_DICTIONARY_BYTES = 16 * 1024;
+
+    private final BlockCache cache;
+
+    /**
+     * Initialize a compressor with a given decoded block cache size.
+     *
+     * @param cacheSize maximum number of decoded class blocks to cache, or 0 to decompress on every call
+     */
+    public ExampleCompressor(int cacheSize) {
+        if (cacheSize < 0) {
+            throw new IllegalArgumentException("Cache size must be non-negative: " + cacheSize);
+        }
+        this.cache = cacheSize == 0 ? null : new BlockCache(cacheSize);
+    }
+
+    /**
+     * Compress the examples of a given list of classes and all their descendants. Classes not backed by XML bindings
+     * are left unchanged.
+     *
+     * @param classes root classes
+     * @return the given classes
+     */
+    public List<VnClass> compress(@NonNull List<VnClass> classes) {
+        List<VnClassXml> xmls = new ArrayList<>();
+        for (VnClass cls : classes) {
+            if (cls instanceof VnClassXml) {
+                collect((VnClassXml) cls, xmls);
+            }
+        }
+        byte[] dictionary = dictionary(xmls);
+        for (VnClassXml cls : xmls) {
+            compress(cls, dictionary);
+        }
+        return classes;
+    }
+
+    private void compress(VnClassXml cls, byte[] dictionary) {
+        ByteArrayOutputStream utf8 = new ByteArrayOutputStream();
+        List<Integer> ends = new ArrayList<>();
+        for (VnFrameXml frame : cls.frameElements()) {
+            for (FrameExampleXml example : frame.exampleElements()) {
+                byte[] bytes = example.value().getBytes(StandardCharsets.UTF_8);
+                utf8.write(bytes, 0, bytes.length);
+                ends.add(utf8.size());
+            }
+        }
+        CompressedExamples block = new CompressedExamples(deflate(utf8.toByteArray(), dictionary),
+                ends.stream().mapToInt(Integer::intValue).toArray(), dictionary, cache);
+        int first = 0;
+        for (VnFrameXml frame : cls.frameElements()) {
+            int count = frame.exampleElements().size();
+            frame.compressedExamples(block, first, first + count);
+            first += count;
+        }
+    }
+
+    private static void collect(VnClassXml cls, List<VnClassXml> result) {
+        result.add(cls);
+        for (VnClassXml child : cls.children()) {
+            collect(child, result);
+        }
+    }
+
+    private static byte[] dictionary(List<VnClassXml> classes) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (VnClassXml cls : classes) {
+            for (VnFrameXml frame : cls.frameElements()) {
+                for (FrameExampleXml example : frame.exampleElements()) {
+                    for (String token : example.value().split("\\s+")) {
+                        if (!token.isEmpty()) {
+                            counts.merge(token + " ", 1, Integer::sum);
+                        }
+                    }
+                }
+            }
+        }
+        List<Map.Entry<String, Integer>> tokens = new ArrayList<>(counts.entrySet());
+        // tokens repeated at least once, weighted by the bytes they would save
+        tokens.removeIf(entry -> entry.getValue() < 2);
+        tokens.sort(Comparator.comparing((Map.Entry<String, Integer> entry) -> entry.getValue() * entry.getKey().length())
+                .reversed()
+                .thenComparing(Map.Entry::getKey));
+
+        List<byte[]> selected = new ArrayList<>();
+        int size = 0;
+        for (Map.Entry<String, Integer> token : tokens) {
+            byte[] bytes = token.getKey().getBytes(StandardCharsets.UTF_8);
+            if (size + bytes.length > MAX_DICTIONARY_BYTES) {
+                break;
+            }
+            selected.add(bytes);
+            size += bytes.length;
+        }
+        // deflate encodes nearer matches more cheaply, so the most useful tokens go at the end of the dictionary
+        ByteArrayOutputStream dictionary = new ByteArrayOutputStream(size);
+        for (int i = selected.size() - 1; i >= 0; --i) {
+            dictionary.write(selected.get(i), 0, selected.get(i).length);
+        }
+        return dictionary.toByteArray();
+    }
+
+    private static byte[] deflate(byte[] utf8, byte[] dictionary) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            if (dictionary.length > 0) {
+                deflater.setDictionary(dictionary);
+            }
+            deflater.setInput(utf8);
+            deflater.finish();
+            ByteArrayOutputStream result = new ByteArrayOutputStream(Math.max(16, utf8.length / 2));
+            byte[] buffer = new byte[1024];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                result.write(buffer, 0, length);
+            }
+            return result.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Synchronized LRU cache of decoded example blocks.
+     */
+    static class BlockCache {
+
+        private final Map<CompressedExamples, String[]> decoded;
+
+        BlockCache(int capacity) {
+            this.decoded = new LinkedHashMap<CompressedExamples, String[]>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<CompressedExamples, String[]> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+
+        String[] get(CompressedExamples block) {
+            synchronized (decoded) {
+                String[] result = decoded.get(block);
+                if (null != result) {
+                    return result;
+                }
+            }
+            String[] result = block.decode();
+            synchronized (decoded) {
+                decoded.put(block, result);
+            }
+            return result;
+        }
+
+    }
+
+}
@@ -20,9 +20,15 @@ import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 
+import io.github.semlink.verbnet.semantics.CompiledArgument;
 import io.github.semlink.verbnet.semantics.VnSemanticArgument;
+import io.github.semlink.verbnet.xml.util.InternedStringXmlAdapter;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.experimental.Accessors;
 
 /**
@@ -39,9 +45,45 @@ public class SemanticArgumentXml implements VnSemanticArgument {
     static final String ROOT_NAME = "ARG";
 
     @XmlAttribute(name = "type", required = true)
+    @XmlJavaTypeAdapter(InternedStringXmlAdapter.class)
     private String type;
 
     @XmlAttribute(name = "value", required = true)
+    @XmlJavaTypeAdapter(InternedStringXmlAdapter.class)
     private String value;
 
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient CompiledArgument compiled;
+
+    public SemanticArgumentXml type(String type) {
+        this.type = type;
+        this.compiled = null;
+        return this;
+    }
+
+    public SemanticArgumentXml value(String value) {
+        this.value = value;
+        this.compiled = null;
+        return this;
+    }
+
+    @Override
+    public CompiledArgument compiled() {
+        CompiledArgument result = compiled;
+        if (null == result) {
+            result = CompiledArgument.compile(type, value);
+            compiled = result;
+        }
+        return result;
+    }
+
+    /**
+     * Set the shared compiled form of this argument, e.g. from a load-scoped {@link
+     * io.github.semlink.verbnet.xml.util.ArgumentTable}.
+     */
+    void compiled(CompiledArgument compiled) {
+        this.compiled = compiled;
+    }
+
 }
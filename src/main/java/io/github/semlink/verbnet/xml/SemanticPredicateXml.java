@@ -32,6 +32,7 @@ import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import io.github.semlink.verbnet.semantics.VnPredicatePolarity;
 import io.github.semlink.verbnet.semantics.VnSemanticArgument;
 import io.github.semlink.verbnet.semantics.VnSemanticPredicate;
+import io.github.semlink.verbnet.xml.util.InternedStringXmlAdapter;
 import lombok.Data;
 import lombok.experimental.Accessors;
 import lombok.extern.slf4j.Slf4j;
@@ -55,6 +56,7 @@ public class SemanticPredicateXml implements VnSemanticPredicate {
     private VnPredicatePolarity polarity = VnPredicatePolarity.TRUE;
 
     @XmlAttribute(name = "value", required = true)
+    @XmlJavaTypeAdapter(InternedStringXmlAdapter.class)
     private String value;
 
     @XmlElementWrapper(name = "ARGS")
@@ -23,6 +23,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 
 import io.github.semlink.verbnet.xml.util.BooleanAdapterXmlAdapter;
+import io.github.semlink.verbnet.xml.util.InternedStringXmlAdapter;
 import lombok.Data;
 import lombok.experimental.Accessors;
 
@@ -40,6 +41,7 @@ public class SyntacticRestrictionXml {
     static final String ROOT_NAME = "SYNRESTR";
 
     @XmlAttribute(name = "type", required = true)
+    @XmlJavaTypeAdapter(InternedStringXmlAdapter.class)
     private String type;
     @XmlJavaTypeAdapter(BooleanAdapterXmlAdapter.class)
     private Boolean include = true;
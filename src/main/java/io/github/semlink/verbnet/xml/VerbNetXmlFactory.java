@@ -38,6 +38,9 @@ import javax.xml.transform.sax.SAXSource;
 
 import io.github.semlink.verbnet.VnClass;
 import io.github.semlink.verbnet.xml.VnFrameXml.Syntax;
+import io.github.semlink.verbnet.xml.util.ArgumentTable;
+import io.github.semlink.verbnet.xml.util.InternedStringXmlAdapter;
+import io.github.semlink.verbnet.xml.util.StringTable;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
@@ -66,11 +69,22 @@ public final class VerbNetXmlFactory {
      * @return VerbNetXml classes
      */
     public static List<VnClass> readVerbNet(InputStream inputStream) {
+        return readVerbNet(inputStream, new XmlLoadOptions());
+    }
+
+    /**
+     * Reads a single VerbNetXml XML file, a collection of VerbNetXml classes.
+     *
+     * @param inputStream VerbNetXml XML file input stream
+     * @param options     load options
+     * @return VerbNetXml classes
+     */
+    public static List<VnClass> readVerbNet(InputStream inputStream, @NonNull XmlLoadOptions options) {
         try {
             SAXSource source = new SAXSource(xmlReader(), new InputSource(inputStream));
-            VerbNetXml verbNet = (VerbNetXml) unmarshaller(VerbNetXml.class).unmarshal(source);
+            VerbNetXml verbNet = (VerbNetXml) unmarshaller(VerbNetXml.class, options).unmarshal(source);
             verbNet.classes().forEach(VerbNetXmlFactory::setPointers);
-            return verbNet.verbClasses();
+            return postProcess(verbNet.verbClasses(), options);
         } catch (Exception e) {
             throw new RuntimeException("An error occurred while reading VerbNetXml XML files", e);
         }
@@ -83,15 +97,27 @@ public final class VerbNetXmlFactory {
      * @return list with one root {@link VnClass} per XML file in directory
      */
     public static List<VnClass> readFromDirectory(@NonNull Path path) {
+        return readFromDirectory(path, new XmlLoadOptions());
+    }
+
+    /**
+     * Read all VerbNet XML files at a given directory.
+     *
+     * @param path    path to VerbNet directory containing only valid VerbNet XML files
+     * @param options load options
+     * @return list with one root {@link VnClass} per XML file in directory
+     */
+    public static List<VnClass> readFromDirectory(@NonNull Path path, @NonNull XmlLoadOptions options) {
         if (!Files.isDirectory(path)) {
             throw new IllegalArgumentException("Was expecting a directory, got a file at " + path.toString());
         }
         XMLReader xmlReader = xmlReader();
-        Unmarshaller unmarshaller = unmarshaller(VnClassXml.class);
+        Unmarshaller unmarshaller = unmarshaller(VnClassXml.class, options);
         try (Stream<Path> xmls = Files.list(path)
                 .filter(s -> s.toString().endsWith(".xml"))
                 .sorted(Comparator.comparing(Path::toString))) {
-            return xmls.map(xml -> readFromXml(xml, unmarshaller, xmlReader)).collect(Collectors.toList());
+            return postProcess(xmls.map(xml -> readFromXml(xml, unmarshaller, xmlReader)).collect(Collectors.toList()),
+                    options);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -104,7 +130,7 @@ public final class VerbNetXmlFactory {
      * @return root VerbNet class
      */
     public static VnClass readFromXml(@NonNull InputStream inputStream) {
-        return readFromXml(inputStream, unmarshaller(VnClassXml.class), xmlReader());
+        return readFromXml(inputStream, unmarshaller(VnClassXml.class, new XmlLoadOptions()), xmlReader());
     }
 
     /**
@@ -114,7 +140,7 @@ public final class VerbNetXmlFactory {
      * @return root VerbNet class
      */
     public static VnClass readFromXml(@NonNull Path path) {
-        return readFromXml(path, unmarshaller(VnClassXml.class), xmlReader());
+        return readFromXml(path, unmarshaller(VnClassXml.class, new XmlLoadOptions()), xmlReader());
     }
 
     private static VnClass readFromXml(Path xmlPath, Unmarshaller unmarshaller, XMLReader xmlReader) {
@@ -137,10 +163,31 @@ public final class VerbNetXmlFactory {
         }
     }
 
-    private static Unmarshaller unmarshaller(Class clazz) {
+    private static Unmarshaller unmarshaller(Class clazz, XmlLoadOptions options) {
         try {
-            return JAXBContext.newInstance(clazz, AdjectiveXml.class, AdverbXml.class, NounPhraseXml.class, PrepXml.class,
-                    LexXml.class, VerbXml.class).createUnmarshaller();
+            Unmarshaller unmarshaller = JAXBContext.newInstance(clazz, AdjectiveXml.class, AdverbXml.class,
+                    NounPhraseXml.class, PrepXml.class, LexXml.class, VerbXml.class).createUnmarshaller();
+            // one table shared by every adapter for the lifetime of this unmarshaller
+            StringTable strings = options.internStrings() ? new StringTable() : null;
+            if (null != strings) {
+                unmarshaller.setAdapter(InternedStringXmlAdapter.class, new InternedStringXmlAdapter(strings));
+                unmarshaller.setAdapter(VnMemberXml.ValueSetAdapter.class, new VnMemberXml.ValueSetAdapter(strings));
+                unmarshaller.setAdapter(VnMemberXml.GroupingsSetAdapter.class,
+                        new VnMemberXml.GroupingsSetAdapter(strings));
+                unmarshaller.setAdapter(VnFrameXml.ValueSetAdapter.class, new VnFrameXml.ValueSetAdapter(strings));
+            }
+            ArgumentTable arguments = null == strings ? new ArgumentTable() : new ArgumentTable(strings::intern);
+            unmarshaller.setListener(new Unmarshaller.Listener() {
+                @Override
+                public void afterUnmarshal(Object target, Object parent) {
+                    // semantic arguments are compiled once at load, sharing one instance per type and value
+                    if (target instanceof SemanticArgumentXml) {
+                        SemanticArgumentXml argument = (SemanticArgumentXml) target;
+                        argument.compiled(arguments.compile(argument.type(), argument.value()));
+                    }
+                }
+            });
+            return unmarshaller;
         } catch (JAXBException e) {
             throw new RuntimeException(e);
         }
@@ -156,6 +203,16 @@ public final class VerbNetXmlFactory {
         }
     }
 
+    private static List<VnClass> postProcess(List<VnClass> classes, XmlLoadOptions options) {
+        if (options.compressExamples()) {
+            new ExampleCompressor(options.exampleCacheSize()).compress(classes);
+        }
+        if (options.canonicalize()) {
+            new XmlCanonicalizer().canonicalize(classes);
+        }
+        return classes;
+    }
+
     private static void setPointers(VnClassXml parent) {
         for (VnMemberXml member : parent.memberElements()) {
             member.verbClass(parent);
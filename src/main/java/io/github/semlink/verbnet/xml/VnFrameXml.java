@@ -43,8 +43,13 @@ import io.github.semlink.verbnet.syntax.VnNounPhrase;
 import io.github.semlink.verbnet.syntax.VnPrep;
 import io.github.semlink.verbnet.syntax.VnSyntax;
 import io.github.semlink.verbnet.syntax.VnSyntaxType;
+import io.github.semlink.verbnet.xml.util.InternedStringXmlAdapter;
+import io.github.semlink.verbnet.xml.util.StringTable;
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.Accessors;
 import lombok.experimental.Delegate;
@@ -88,13 +93,40 @@ public class VnFrameXml implements VnFrame {
 
     private transient VnClass verbClass;
 
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient CompressedExamples compressedExamples;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient int firstExample;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient int lastExample;
+
     @Override
     public List<String> examples() {
+        if (null != compressedExamples) {
+            return compressedExamples.examples(firstExample, lastExample);
+        }
         return exampleElements.stream()
             .map(FrameExampleXml::value)
             .collect(Collectors.toList());
     }
 
+    /**
+     * Replace the examples of this frame with a range of a compressed block shared by its class.
+     *
+     * @param block compressed examples of this frame's class
+     * @param from  index of this frame's first example in the block, inclusive
+     * @param to    index of this frame's last example in the block, exclusive
+     */
+    void compressedExamples(CompressedExamples block, int from, int to) {
+        this.compressedExamples = block;
+        this.firstExample = from;
+        this.lastExample = to;
+        this.exampleElements = new ArrayList<>(0);
+    }
+
     @Override
     public List<VnSyntax> syntax() {
         return syntaxElements.stream()
@@ -130,6 +162,7 @@ public class VnFrameXml implements VnFrame {
     public static class NounPhraseXml extends Syntax implements VnNounPhrase {
 
         @XmlAttribute(name = "value", required = true)
+        @XmlJavaTypeAdapter(InternedStringXmlAdapter.class)
         private String thematicRole;
         @XmlElement(name = SyntacticRestrictionsXml.ROOT_NAME)
         private SyntacticRestrictionsXml syntacticRestrictions;
@@ -155,6 +188,22 @@ public class VnFrameXml implements VnFrame {
             }
             return syntacticRestrictions.restrictions();
         }
+
+        SyntacticRestrictionsXml syntacticRestrictionsXml() {
+            return syntacticRestrictions;
+        }
+
+        void syntacticRestrictionsXml(SyntacticRestrictionsXml syntacticRestrictions) {
+            this.syntacticRestrictions = syntacticRestrictions;
+        }
+
+        SelectionalRestrictionsXml selectionalRestrictionsXml() {
+            return selectionalRestrictions;
+        }
+
+        void selectionalRestrictionsXml(SelectionalRestrictionsXml selectionalRestrictions) {
+            this.selectionalRestrictions = selectionalRestrictions;
+        }
     }
 
     @XmlRootElement(name = "VERB")
@@ -183,12 +232,23 @@ public class VnFrameXml implements VnFrame {
 
     public static class ValueSetAdapter extends XmlAdapter<String, Set<String>> {
 
+        private final StringTable strings;
+
+        public ValueSetAdapter() {
+            this(null);
+        }
+
+        public ValueSetAdapter(StringTable strings) {
+            this.strings = strings;
+        }
+
         @Override
         public Set<String> unmarshal(String value) {
             return Arrays.stream(value.split("\\|"))
                 .map(prep -> prep.trim().split("\\s+"))
                 .flatMap(Arrays::stream)
                 .map(prep -> prep.trim().toLowerCase())
+                .map(prep -> null == strings ? prep : strings.intern(prep))
                 .collect(Collectors.toSet());
 
         }
@@ -231,6 +291,7 @@ public class VnFrameXml implements VnFrame {
     public static class LexXml extends Syntax implements VnLex {
 
         @XmlAttribute(name = "value", required = true)
+        @XmlJavaTypeAdapter(InternedStringXmlAdapter.class)
         private String value;
 
         public LexXml() {
@@ -31,8 +31,12 @@ import javax.xml.bind.annotation.adapters.XmlAdapter;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 
 import io.github.semlink.verbnet.VnClass;
+import io.github.semlink.verbnet.VnFrame;
 import io.github.semlink.verbnet.VnMember;
 import io.github.semlink.verbnet.WnKey;
+import io.github.semlink.verbnet.semantics.FeatureBinding;
+import io.github.semlink.verbnet.xml.util.StringTable;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
@@ -77,18 +81,59 @@ public class VnMemberXml implements VnMember {
 
     private transient VnClass verbClass;
 
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient volatile List<VnFrame> boundFrames;
+
     public VnClass verbClass() {
         return verbClass;
     }
 
+    /**
+     * Set the features of this member, discarding frames bound to its previous features. Feature indexes of a {@link
+     * io.github.semlink.verbnet.VnIndex} built over this member still reflect the features it had when indexed.
+     */
+    public VnMemberXml features(List<String> features) {
+        this.features = features;
+        this.boundFrames = null;
+        return this;
+    }
+
+    @Override
+    public List<VnFrame> framesIncludeInherited() {
+        // bound once on first use, and again after the features change; inherited frames are fixed after loading
+        List<VnFrame> frames = boundFrames;
+        if (null == frames) {
+            synchronized (this) {
+                frames = boundFrames;
+                if (null == frames) {
+                    frames = FeatureBinding.bind(verbClass.framesIncludeInherited(), features);
+                    boundFrames = frames;
+                }
+            }
+        }
+        return frames;
+    }
+
     public static class ValueSetAdapter extends XmlAdapter<String, List<String>> {
 
+        private final StringTable strings;
+
+        public ValueSetAdapter() {
+            this(null);
+        }
+
+        public ValueSetAdapter(StringTable strings) {
+            this.strings = strings;
+        }
+
         @Override
         public List<String> unmarshal(String value) {
             return Arrays.stream(value.split("\\s+"))
                     .map(feature -> feature.replaceFirst("\\+", "").trim().toLowerCase())
                     .filter(feature -> !feature.isEmpty())
                     .distinct()
+                    .map(feature -> null == strings ? feature : strings.intern(feature))
                     .collect(Collectors.toList());
 
         }
@@ -101,11 +146,22 @@ public class VnMemberXml implements VnMember {
 
     public static class GroupingsSetAdapter extends XmlAdapter<String, List<String>> {
 
+        private final StringTable strings;
+
+        public GroupingsSetAdapter() {
+            this(null);
+        }
+
+        public GroupingsSetAdapter(StringTable strings) {
+            this.strings = strings;
+        }
+
         @Override
         public List<String> unmarshal(String value) {
             return Arrays.stream(value.split("\\s+"))
                     .filter(feature -> !feature.isEmpty())
                     .distinct()
+                    .map(grouping -> null == strings ? grouping : strings.intern(grouping))
                     .collect(Collectors.toList());
 
         }
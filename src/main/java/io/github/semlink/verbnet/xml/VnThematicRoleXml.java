@@ -23,9 +23,11 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 
 import io.github.semlink.verbnet.VnThematicRole;
 import io.github.semlink.verbnet.restrictions.VnRestrictions;
+import io.github.semlink.verbnet.xml.util.InternedStringXmlAdapter;
 import lombok.Data;
 import lombok.experimental.Accessors;
 
@@ -43,6 +45,7 @@ public class VnThematicRoleXml implements VnThematicRole {
     static final String ROOT_NAME = "THEMROLE";
 
     @XmlAttribute(name = "type", required = true)
+    @XmlJavaTypeAdapter(InternedStringXmlAdapter.class)
     private String type;
 
     @XmlElement(name = SelectionalRestrictionsXml.ROOT_NAME, required = true)
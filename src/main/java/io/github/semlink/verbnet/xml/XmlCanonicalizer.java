@@ -0,0 +1,258 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.xml;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+import io.github.semlink.verbnet.VnClass;
+import io.github.semlink.verbnet.WnKey;
+import io.github.semlink.verbnet.xml.VnFrameXml.LexXml;
+import io.github.semlink.verbnet.xml.VnFrameXml.NounPhraseXml;
+import io.github.semlink.verbnet.xml.VnFrameXml.PrepXml;
+import io.github.semlink.verbnet.xml.VnFrameXml.Syntax;
+import io.github.semlink.verbnet.xml.util.ArgumentTable;
+import lombok.NonNull;
+
+/**
+ * Hash-conses structurally identical value subtrees of VerbNet XML bindings, so that equal thematic roles, restriction
+ * trees, syntax elements, semantic predicates, frame descriptions, examples, {@link WnKey WordNet keys} and strings are
+ * represented by a single shared instance, along with the compiled forms of semantic arguments. Classes, members and
+ * frames themselves are never shared, as they hold back-pointers to their {@link VnClass}; only their contents are.
+ * <p>
+ * A single canonicalizer may be applied to several class hierarchies (e.g. different VerbNet versions) to share
+ * subtrees between them. Canonicalization must happen after pointers are set on a hierarchy, and shared subtrees must
+ * not be modified afterwards.
+ *
+ * @author jgung
+ */
+public class XmlCanonicalizer {
+
+    private final Map<String, Map<Object, Object>> pools = new LinkedHashMap<>();
+    private final Map<String, long[]> shared = new LinkedHashMap<>();
+    // compiled semantic arguments, shared across every hierarchy canonicalized here
+    private final ArgumentTable arguments = new ArgumentTable(this::string);
+
+    /**
+     * Canonicalize the contents of a given list of classes and all their descendants. Classes not backed by XML bindings
+     * are left unchanged.
+     *
+     * @param classes root classes
+     * @return the given classes
+     */
+    public List<VnClass> canonicalize(@NonNull List<VnClass> classes) {
+        for (VnClass cls : classes) {
+            if (cls instanceof VnClassXml) {
+                canonicalize((VnClassXml) cls);
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * Canonicalize the contents of a given class and all its descendants.
+     *
+     * @param cls root class
+     */
+    public void canonicalize(@NonNull VnClassXml cls) {
+        for (VnMemberXml member : cls.memberElements()) {
+            member.name(string(member.name()));
+            member.verbnetKey(string(member.verbnetKey()));
+            member.wn(wnKeys(member.wn()));
+            member.features(list("string list", member.features(), this::string));
+            member.groupings(list("string list", member.groupings(), this::string));
+        }
+        cls.thematicRoles(list("role list", cls.thematicRoles(), this::role));
+        for (VnFrameXml frame : cls.frameElements()) {
+            frame.description(intern("description", description(frame.description())));
+            frame.exampleElements(list("example list", frame.exampleElements(), this::example));
+            frame.syntaxElements(list("syntax list", frame.syntaxElements(), this::syntax));
+            frame.preds(list("predicate list", frame.preds(), this::predicate));
+        }
+        for (VnClassXml child : cls.children()) {
+            canonicalize(child);
+        }
+    }
+
+    /**
+     * Return the number of duplicate instances replaced by a shared instance so far, by kind of object, e.g.
+     * "predicate".
+     */
+    public Map<String, Long> sharedCounts() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        shared.forEach((kind, count) -> result.put(kind, count[0]));
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Return the number of distinct instances retained by this canonicalizer, by kind of object.
+     */
+    public Map<String, Integer> distinctCounts() {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        pools.forEach((kind, pool) -> result.put(kind, pool.size()));
+        return Collections.unmodifiableMap(result);
+    }
+
+    private <T> T intern(String kind, T value) {
+        return intern(kind, value, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T intern(String kind, Object key, T value) {
+        if (null == value) {
+            return null;
+        }
+        T existing = (T) pools.computeIfAbsent(kind, k -> new HashMap<>()).putIfAbsent(key, value);
+        if (null == existing) {
+            return value;
+        }
+        if (existing != value) {
+            shared.computeIfAbsent(kind, k -> new long[1])[0]++;
+        }
+        return existing;
+    }
+
+    private <T> List<T> list(String kind, List<T> values, UnaryOperator<T> element) {
+        if (null == values) {
+            return null;
+        }
+        List<T> result = new ArrayList<>(values.size());
+        for (T value : values) {
+            result.add(element.apply(value));
+        }
+        return intern(kind, result);
+    }
+
+    private List<WnKey> wnKeys(List<WnKey> keys) {
+        if (null == keys) {
+            return null;
+        }
+        List<WnKey> result = new ArrayList<>(keys.size());
+        List<Object> key = new ArrayList<>(keys.size());
+        for (WnKey value : keys) {
+            WnKey canonical = wnKey(value);
+            result.add(canonical);
+            // WnKey equality ignores uncertainty, so lists are pooled by (key, uncertainty) pairs
+            key.add(Arrays.asList(canonical, canonical.uncertain()));
+        }
+        return intern("wn list", key, result);
+    }
+
+    private Set<String> stringSet(Set<String> values) {
+        if (null == values) {
+            return null;
+        }
+        Set<String> result = new HashSet<>();
+        for (String value : values) {
+            result.add(string(value));
+        }
+        return intern("string set", result);
+    }
+
+    private String string(String value) {
+        return intern("string", value);
+    }
+
+    private WnKey wnKey(WnKey key) {
+        // WnKey equality ignores uncertainty, which must be preserved
+        return intern("wordnet key", Arrays.asList(key, key.uncertain()), key);
+    }
+
+    private VnThematicRoleXml role(VnThematicRoleXml role) {
+        role.type(string(role.type()));
+        role.selectionalRestrictions(selectional(role.selectionalRestrictions()));
+        return intern("role", role);
+    }
+
+    private SelectionalRestrictionsXml selectional(SelectionalRestrictionsXml restrictions) {
+        if (null == restrictions) {
+            return null;
+        }
+        restrictions.resAtomic(list("selectional restriction list", restrictions.resAtomic(), atomic -> {
+            atomic.type(string(atomic.type()));
+            return intern("selectional restriction", atomic);
+        }));
+        restrictions.resHierarchies(list("selectional restrictions list", restrictions.resHierarchies(),
+                this::selectional));
+        return intern("selectional restrictions", restrictions);
+    }
+
+    private SyntacticRestrictionsXml syntactic(SyntacticRestrictionsXml restrictions) {
+        if (null == restrictions) {
+            return null;
+        }
+        restrictions.syntacticRestrictions(list("syntactic restriction list", restrictions.syntacticRestrictions(),
+                atomic -> {
+                    atomic.type(string(atomic.type()));
+                    return intern("syntactic restriction", atomic);
+                }));
+        return intern("syntactic restrictions", restrictions);
+    }
+
+    private FrameDescriptionXml description(FrameDescriptionXml description) {
+        if (null == description) {
+            return null;
+        }
+        description.primary(string(description.primary()));
+        description.secondary(string(description.secondary()));
+        description.descriptionNumber(string(description.descriptionNumber()));
+        description.xtag(string(description.xtag()));
+        return description;
+    }
+
+    private FrameExampleXml example(FrameExampleXml example) {
+        example.value(string(example.value()));
+        return intern("example", example);
+    }
+
+    private Syntax syntax(Syntax syntax) {
+        if (syntax instanceof NounPhraseXml) {
+            NounPhraseXml np = (NounPhraseXml) syntax;
+            np.thematicRole(string(np.thematicRole()));
+            np.syntacticRestrictionsXml(syntactic(np.syntacticRestrictionsXml()));
+            np.selectionalRestrictionsXml(selectional(np.selectionalRestrictionsXml()));
+        } else if (syntax instanceof PrepXml) {
+            PrepXml prep = (PrepXml) syntax;
+            prep.types(stringSet(prep.types()));
+            prep.selectionalRestrictions(selectional(prep.selectionalRestrictions()));
+        } else if (syntax instanceof LexXml) {
+            LexXml lex = (LexXml) syntax;
+            lex.value(string(lex.value()));
+        }
+        return intern("syntax", syntax);
+    }
+
+    private SemanticPredicateXml predicate(SemanticPredicateXml predicate) {
+        predicate.value(string(predicate.value()));
+        predicate.args(list("argument list", predicate.args(), arg -> {
+            arg.type(string(arg.type()));
+            arg.value(string(arg.value()));
+            arg.compiled(arguments.compile(arg.type(), arg.value()));
+            return intern("argument", arg);
+        }));
+        return intern("predicate", predicate);
+    }
+
+}
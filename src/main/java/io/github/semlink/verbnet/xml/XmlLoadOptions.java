@@ -0,0 +1,56 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.xml;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+/**
+ * Options controlling how VerbNet XML is loaded by {@link VerbNetXmlFactory}.
+ *
+ * @author jgung
+ */
+@Data
+@Accessors(fluent = true)
+public class XmlLoadOptions {
+
+    /**
+     * If true, structurally identical roles, restriction trees, syntax elements, predicates and other value subtrees are
+     * shared after loading using an {@link XmlCanonicalizer}, reducing heap use. Shared subtrees must not be modified.
+     */
+    private boolean canonicalize = false;
+
+    /**
+     * If true, repeated vocabulary (thematic role names, predicate types, argument types and values, LEX values, preposition
+     * sets, restriction types, member features and groupings) is interned in a load-scoped {@link
+     * io.github.semlink.verbnet.xml.util.StringTable}, so that equal values share a single instance.
+     */
+    private boolean internStrings = true;
+
+    /**
+     * If true, frame example sentences are stored as compressed blocks, one per class, and only decompressed when
+     * requested through {@link VnFrameXml#examples()}. See {@link ExampleCompressor}.
+     */
+    private boolean compressExamples = false;
+
+    /**
+     * Number of decompressed class example blocks kept in an LRU cache when {@link #compressExamples} is enabled, or 0
+     * to decompress on every call.
+     */
+    private int exampleCacheSize = 16;
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.xml.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import io.github.semlink.verbnet.semantics.CompiledArgument;
+import lombok.NonNull;
+
+/**
+ * Load-scoped table of {@link CompiledArgument compiled semantic arguments}, sharing a single instance for each argument
+ * type and value, with references interned through a given function such as {@link StringTable#intern(String)}.
+ * Not thread-safe.
+ *
+ * @author jgung
+ */
+public class ArgumentTable {
+
+    private final UnaryOperator<String> strings;
+    private final Map<String, Map<String, CompiledArgument>> arguments = new HashMap<>();
+
+    public ArgumentTable() {
+        this(UnaryOperator.identity());
+    }
+
+    public ArgumentTable(@NonNull UnaryOperator<String> strings) {
+        this.strings = strings;
+    }
+
+    /**
+     * Return the shared compiled argument for a given type and value, compiling it if not already present.
+     *
+     * @param type  argument type, e.g. "Event"
+     * @param value argument value, e.g. "e1"
+     * @return shared compiled argument
+     */
+    public CompiledArgument compile(String type, String value) {
+        return arguments.computeIfAbsent(null == type ? "" : type, t -> new HashMap<>())
+                .computeIfAbsent(null == value ? "" : value, v -> CompiledArgument.compile(type, value, strings));
+    }
+
+    /**
+     * Return the number of distinct arguments in this table.
+     */
+    public int size() {
+        return arguments.values().stream().mapToInt(Map::size).sum();
+    }
+
+}
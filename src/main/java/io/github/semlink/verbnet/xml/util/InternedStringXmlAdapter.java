@@ -0,0 +1,49 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.xml.util;
+
+import javax.xml.bind.annotation.adapters.XmlAdapter;
+
+/**
+ * String XML adapter that canonicalizes values through a shared {@link StringTable}. Values are passed through unchanged
+ * if no table is provided.
+ *
+ * @author jamesgung
+ */
+public class InternedStringXmlAdapter extends XmlAdapter<String, String> {
+
+    private final StringTable strings;
+
+    public InternedStringXmlAdapter() {
+        this(null);
+    }
+
+    public InternedStringXmlAdapter(StringTable strings) {
+        this.strings = strings;
+    }
+
+    @Override
+    public String unmarshal(String value) {
+        return null == strings ? value : strings.intern(value);
+    }
+
+    @Override
+    public String marshal(String value) {
+        return value;
+    }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2019 James Gung
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.semlink.verbnet.xml.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Load-scoped table of canonical strings, used to share a single instance of frequently repeated vocabulary such as
+ * thematic role names, predicate types and restriction types, so that equal values can be compared by identity.
+ * Not thread-safe.
+ *
+ * @author jamesgung
+ */
+public class StringTable {
+
+    private final Map<String, String> strings = new HashMap<>();
+
+    /**
+     * Return the canonical instance of a given string, adding it to this table if not already present.
+     *
+     * @param value string value, may be null
+     * @return canonical instance, or null for a null value
+     */
+    public String intern(String value) {
+        if (null == value) {
+            return null;
+        }
+        String existing = strings.putIfAbsent(value, value);
+        return null == existing ? value : existing;
+    }
+
+    /**
+     * Return the number of distinct strings in this table.
+     */
+    public int size() {
+        return strings.size();
+    }
+
+}
@@ -0,0 +1,104 @@
+package io.github.semlink.verbnet;
+
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Supplier;
+
+import io.github.semlink.verbnet.semantics.VnSemanticArgument;
+
+import static org.junit.Assert.fail;
+
+/**
+ * Allocation regression tests for {@link VnIndex} lookups and {@link VnClass} traversal methods. Per-call byte budgets
+ * are recorded in {@code allocation-budgets.properties}, where a budget of 0 marks a method as allocation-free.
+ *
+ * @author jgung
+ */
+public class AllocationBudgetTest {
+
+    private static final String BUDGETS = "allocation-budgets.properties";
+
+    private static VnIndex verbNet;
+    private static Properties budgets;
+
+    @BeforeClass
+    public static void init() throws IOException {
+        verbNet = DefaultVnIndex.fromDirectory("src/test/resources/test-verbnet");
+        budgets = new Properties();
+        try (InputStream inputStream = AllocationBudgetTest.class.getClassLoader().getResourceAsStream(BUDGETS)) {
+            budgets.load(inputStream);
+        }
+    }
+
+    @Test
+    public void testIndexAllocationBudgets() {
+        WnKey climb = WnKey.parseWordNetKey("climb%2:38:01").orElseThrow(IllegalArgumentException::new);
+        Map<String, Supplier<?>> calls = new LinkedHashMap<>();
+        calls.put("VnIndex.roots", () -> verbNet.roots());
+        calls.put("VnIndex.getById", () -> verbNet.getById("45.6.1-1"));
+        calls.put("VnIndex.getByBaseIdAndLemma", () -> verbNet.getByBaseIdAndLemma("45.6.1", "appreciate"));
+        calls.put("VnIndex.getByLemma", () -> verbNet.getByLemma("appreciate"));
+        calls.put("VnIndex.getMembersByLemma", () -> verbNet.getMembersByLemma("climb"));
+        calls.put("VnIndex.getMembersByWordNetKey", () -> verbNet.getMembersByWordNetKey(climb));
+        calls.put("VnIndex.getMembersBySenseKey", () -> verbNet.getMembersByWordNetKey("climb%2:38:01::"));
+        calls.put("VnIndex.getWordNetKeysByLemma", () -> verbNet.getWordNetKeysByLemma("climb"));
+        calls.put("VnIndex.getBySurfaceForm", () -> verbNet.getBySurfaceForm("climbed"));
+        calls.put("VnIndex.getMembersByGrouping", () -> verbNet.getMembersByGrouping("climb.01"));
+        calls.put("VnIndex.getMemberByVerbnetKey", () -> verbNet.getMemberByVerbnetKey("climb#1"));
+        calls.put("VnIndex.getMembersByFeature", () -> verbNet.getMembersByFeature("increase"));
+        VnClass cls = verbNet.getById("45.6.1-1");
+        calls.put("VnIndex.effectiveRole", () -> verbNet.effectiveRole(cls, "Patient"));
+        calls.put("VnIndex.getRolesetMappings", () -> verbNet.getRolesetMappings("climb.01"));
+        assertWithinBudgets(calls);
+    }
+
+    @Test
+    public void testClassAllocationBudgets() {
+        VnClass cls = verbNet.getById("45.6.1-1");
+        Map<String, Supplier<?>> calls = new LinkedHashMap<>();
+        calls.put("VnClass.membersIncludeInherited", cls::membersIncludeInherited);
+        calls.put("VnClass.rolesIncludeInherited", cls::rolesIncludeInherited);
+        calls.put("VnClass.framesIncludeInherited", cls::framesIncludeInherited);
+        calls.put("VnClass.ancestors", cls::ancestors);
+        calls.put("VnClass.descendants", () -> cls.root().descendants());
+        calls.put("VnClass.related", cls::related);
+        calls.put("VnClass.isRoot", cls::isRoot);
+        calls.put("VnClass.root", cls::root);
+        VnMember member = verbNet.getMemberByVerbnetKey("climb#1");
+        calls.put("VnMember.framesIncludeInherited", member::framesIncludeInherited);
+        VnSemanticArgument argument = verbNet.getById("45.6.1").frames().get(0).predicates().get(0).semanticArguments().get(0);
+        calls.put("VnSemanticArgument.compiled", argument::compiled);
+        assertWithinBudgets(calls);
+    }
+
+    private static void assertWithinBudgets(Map<String, Supplier<?>> calls) {
+        Assume.assumeTrue("Thread allocation measurement is not supported", AllocationMeter.isSupported());
+        List<String> failures = new ArrayList<>();
+        for (Map.Entry<String, Supplier<?>> call : calls.entrySet()) {
+            String budget = budgets.getProperty(call.getKey());
+            if (null == budget) {
+                failures.add(call.getKey() + ": no budget recorded in " + BUDGETS);
+                continue;
+            }
+            long limit = Long.parseLong(budget.trim());
+            long bytes = AllocationMeter.bytesPerCall(call.getValue());
+            if (bytes > limit) {
+                failures.add(String.format("%s: %d bytes/call, %s", call.getKey(), bytes,
+                        limit == 0 ? "marked allocation-free" : "budget is " + limit + " bytes/call"));
+            }
+        }
+        if (!failures.isEmpty()) {
+            fail("Allocation budgets exceeded:\n  " + String.join("\n  ", failures));
+        }
+    }
+
+}
@@ -0,0 +1,62 @@
+package io.github.semlink.verbnet;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+/**
+ * Measures bytes allocated by the current thread per call of a warmed-up method, using
+ * {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}.
+ *
+ * @author jgung
+ */
+final class AllocationMeter {
+
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURED_ITERATIONS = 10_000;
+
+    private static volatile Object sink;
+
+    private AllocationMeter() {
+    }
+
+    /**
+     * Returns true if per-thread allocation measurement is available and enabled on this JVM.
+     */
+    static boolean isSupported() {
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean)) {
+            return false;
+        }
+        com.sun.management.ThreadMXBean sunThreads = (com.sun.management.ThreadMXBean) threads;
+        return sunThreads.isThreadAllocatedMemorySupported() && sunThreads.isThreadAllocatedMemoryEnabled();
+    }
+
+    /**
+     * Returns the average number of bytes allocated per call of a given method, after warm-up. The overhead of the
+     * measurement itself is subtracted, and the result is rounded down, so any method allocating on every call reports
+     * at least one byte.
+     *
+     * @param call method to measure
+     * @return bytes allocated per call
+     */
+    static long bytesPerCall(Supplier<?> call) {
+        for (int i = 0; i < WARMUP_ITERATIONS; ++i) {
+            sink = call.get();
+        }
+        long overhead = allocatedBytes();
+        overhead = allocatedBytes() - overhead;
+
+        long before = allocatedBytes();
+        for (int i = 0; i < MEASURED_ITERATIONS; ++i) {
+            sink = call.get();
+        }
+        long allocated = allocatedBytes() - before - overhead;
+        return Math.max(0, allocated) / MEASURED_ITERATIONS;
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+}
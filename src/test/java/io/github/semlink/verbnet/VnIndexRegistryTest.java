@@ -0,0 +1,83 @@
+package io.github.semlink.verbnet;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import io.github.semlink.verbnet.xml.VnClassXml;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * {@link VnIndexRegistry} unit tests.
+ *
+ * @author jgung
+ */
+public class VnIndexRegistryTest {
+
+    private static VnIndexRegistry registry;
+
+    @BeforeClass
+    public static void init() {
+        registry = new VnIndexRegistry();
+        registry.registerDirectory("3.3", "src/test/resources/test-verbnet");
+        registry.registerInputStream("3.4", VnClassXml.class.getClassLoader().getResourceAsStream("test-verbnet.xml"));
+    }
+
+    @Test
+    public void testGet$ByVersion() {
+        assertEquals(Arrays.asList("3.3", "3.4"), registry.versions());
+        assertEquals(2, registry.get("3.3").roots().size());
+        assertEquals(2, registry.get("3.4").roots().size());
+        assertNull(registry.get("3.2"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRegister$DuplicateVersion() {
+        registry.registerDirectory("3.3", "src/test/resources/test-verbnet");
+    }
+
+    @Test
+    public void testSharing() {
+        VnClass first = registry.get("3.3").getById("begin-55.1");
+        VnClass second = registry.get("3.4").getById("begin-55.1");
+        assertNotSame(first, second);
+        assertSame(first.roles().get(0), second.roles().get(0));
+        assertSame(first.frames().get(0).predicates().get(0), second.frames().get(0).predicates().get(0));
+        assertSame(first.members().get(0).wn(), second.members().get(0).wn());
+        // back-pointers are not shared
+        assertSame(first, first.frames().get(0).verbClass());
+        assertSame(second, second.frames().get(0).verbClass());
+        assertSame(second, second.members().get(0).verbClass());
+
+        assertTrue(registry.sharedCounts().get("role") > 0);
+        assertTrue(registry.sharedBytes() > 0);
+        assertTrue(registry.footprint().totalBytes() > 0);
+    }
+
+    private static VnIndex register(VnIndexRegistry registry, String version, String wn) {
+        String xml = "<VERBNET><VNCLASS ID=\"climb-51.1\"><MEMBERS>"
+                + "<MEMBER name=\"climb\" wn=\"" + wn + "\" grouping=\"\"/>"
+                + "</MEMBERS><THEMROLES/><FRAMES/><SUBCLASSES/></VNCLASS></VERBNET>";
+        return registry.registerInputStream(version, new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void testSharing$WordNetUncertainty() {
+        VnIndexRegistry registry = new VnIndexRegistry();
+        VnMember certain = register(registry, "1", "climb%2:38:00").roots().get(0).members().get(0);
+        VnMember uncertain = register(registry, "2", "?climb%2:38:00").roots().get(0).members().get(0);
+        assertFalse(certain.wn().get(0).uncertain());
+        assertTrue(uncertain.wn().get(0).uncertain());
+        assertNotSame(certain.wn(), uncertain.wn());
+    }
+
+}
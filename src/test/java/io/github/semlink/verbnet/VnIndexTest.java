@@ -6,16 +6,26 @@ import org.junit.Test;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
+import io.github.semlink.verbnet.index.RolesetMapping;
+import io.github.semlink.verbnet.memory.FootprintEstimator;
+import io.github.semlink.verbnet.memory.VnFootprint;
 import io.github.semlink.verbnet.restrictions.VnRestrictions;
+import io.github.semlink.verbnet.semantics.FeatureBinding;
 import io.github.semlink.verbnet.semantics.VnPredicatePolarity;
 import io.github.semlink.verbnet.semantics.VnSemanticArgument;
 import io.github.semlink.verbnet.semantics.VnSemanticPredicate;
 import io.github.semlink.verbnet.syntax.VnNounPhrase;
 import io.github.semlink.verbnet.syntax.VnSyntaxType;
 import io.github.semlink.verbnet.xml.VnClassXml;
+import io.github.semlink.verbnet.xml.VnMemberXml;
+import io.github.semlink.verbnet.xml.XmlLoadOptions;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -46,6 +56,81 @@ public class VnIndexTest {
         assertEquals("45.6.1-1", cls.iterator().next().verbNetId().classId());
     }
 
+    @Test
+    public void testGet$MembersByGrouping() {
+        Set<VnMember> members = verbNet.getMembersByGrouping("set.06");
+        assertEquals(2, members.size());
+        for (VnMember member : members) {
+            assertTrue(member.groupings().contains("set.06"));
+        }
+        assertEquals("grow", verbNet.getMembersByGrouping("grow.04").iterator().next().name());
+        assertTrue(verbNet.getMembersByGrouping("grow.03").isEmpty());
+    }
+
+    @Test
+    public void testGet$MembersByFeature() {
+        Set<VnMember> members = verbNet.getMembersByFeature("+fluctuate");
+        assertEquals(3, members.size());
+        assertEquals(members, verbNet.getMembersByFeature("fluctuate"));
+        for (VnMember member : members) {
+            assertTrue(member.features().contains("fluctuate"));
+        }
+        assertTrue(verbNet.getMembersByFeature("sharp").isEmpty());
+    }
+
+    @Test
+    public void testMember$FramesIncludeInherited() {
+        VnMember climb = verbNet.getMemberByVerbnetKey("climb#1");
+        List<VnFrame> frames = climb.framesIncludeInherited();
+        assertSame(frames, climb.framesIncludeInherited());
+        assertEquals(climb.verbClass().framesIncludeInherited().size(), frames.size());
+
+        int bound = 0;
+        for (VnFrame frame : frames) {
+            for (VnSemanticPredicate predicate : frame.predicates()) {
+                for (VnSemanticArgument argument : predicate.semanticArguments()) {
+                    assertTrue(!"V_Direction".equals(argument.value()));
+                    if (argument instanceof FeatureBinding.BoundArgument) {
+                        assertEquals("V_Direction", ((FeatureBinding.BoundArgument) argument).slot());
+                        assertEquals("increase", argument.value());
+                        bound++;
+                    }
+                }
+            }
+        }
+        assertTrue(bound > 0);
+        assertEquals("V_Direction", climb.verbClass().framesIncludeInherited().get(0).predicates().get(1)
+                .semanticArguments().get(2).value());
+    }
+
+    @Test
+    public void testMember$FeaturesInvalidateBoundFrames() {
+        VnIndex index = DefaultVnIndex.fromDirectory("src/test/resources/test-verbnet");
+        VnMemberXml climb = (VnMemberXml) index.getMemberByVerbnetKey("climb#1");
+        List<VnFrame> frames = climb.framesIncludeInherited();
+        climb.features(Arrays.asList("decrease"));
+        assertNotSame(frames, climb.framesIncludeInherited());
+        assertEquals("decrease", climb.framesIncludeInherited().get(0).predicates().get(1)
+                .semanticArguments().get(2).value());
+    }
+
+    @Test
+    public void testGet$MemberByVerbnetKey() {
+        assertEquals("climb", verbNet.getMemberByVerbnetKey("climb#1").name());
+        assertEquals(null, verbNet.getMemberByVerbnetKey("climb#9"));
+    }
+
+    @Test
+    public void testGet$RolesetMappings() {
+        Set<RolesetMapping> mappings = verbNet.getRolesetMappings("go.01");
+        assertEquals(1, mappings.size());
+        RolesetMapping mapping = mappings.iterator().next();
+        assertEquals("45.6.1-1", mapping.verbClass().verbNetId().classId());
+        assertEquals("go_up", mapping.members().get(0).name());
+        assertEquals(mapping.verbClass().rolesIncludeInherited(), mapping.roles());
+        assertTrue(verbNet.getRolesetMappings("go.03").isEmpty());
+    }
+
     @Test
     public void testGet$ByBaseIdAndLemma() {
         Set<VnClass> cls = verbNet.getByBaseIdAndLemma("45.6.1", "appreciate");
@@ -140,4 +225,95 @@ public class VnIndexTest {
         assertEquals("V_Direction", verbSpecific.value());
     }
 
+    @Test
+    public void testFootprint() {
+        VnFootprint footprint = verbNet.footprint();
+        assertTrue(footprint.bytes(FootprintEstimator.CLASSES) > 0);
+        assertTrue(footprint.bytes(FootprintEstimator.FRAMES) > 0);
+        assertTrue(footprint.bytes(FootprintEstimator.EXAMPLES) > 0);
+        assertTrue(footprint.bytes(FootprintEstimator.RESTRICTIONS) > 0);
+        assertTrue(footprint.bytes(FootprintEstimator.WORDNET_KEYS) > 0);
+        assertTrue(footprint.bytes("wordnet index") > 0);
+        assertTrue(footprint.duplicateStrings() > 0);
+        assertEquals(footprint.totalBytes(), footprint.components().stream()
+                .mapToLong(VnFootprint.Component::bytes)
+                .sum());
+    }
+
+    @Test
+    public void testLoad$Canonicalized() {
+        VnIndex canonical = DefaultVnIndex.fromDirectory("src/test/resources/test-verbnet",
+                new XmlLoadOptions().canonicalize(true));
+        assertEquals(verbNet.fingerprints().index(), canonical.fingerprints().index());
+        assertTrue(canonical.footprint().totalBytes() < verbNet.footprint().totalBytes());
+
+        VnClass begin = canonical.getById("begin-55.1");
+        VnClass subclass = canonical.getById("begin-55.1-1");
+        assertSame(begin.frames().get(0).syntax().get(1), subclass.frames().get(0).syntax().get(1));
+        assertSame(subclass, subclass.frames().get(0).verbClass());
+        assertSame(begin, begin.frames().get(0).verbClass());
+    }
+
+    @Test
+    public void testLoad$InternedStrings() {
+        VnClass begin = verbNet.getById("begin-55.1");
+        VnThematicRole agent = begin.roles().stream()
+                .filter(role -> role.type().equals("Agent"))
+                .findFirst().orElseThrow(AssertionError::new);
+        VnNounPhrase np = (VnNounPhrase) begin.frames().get(0).syntax().get(0);
+        VnNounPhrase subclassNp = (VnNounPhrase) verbNet.getById("begin-55.1-1").frames().get(0).syntax().get(0);
+        assertSame(agent.type(), np.thematicRole());
+        assertSame(agent.type(), subclassNp.thematicRole());
+
+        VnIndex uninterned = DefaultVnIndex.fromDirectory("src/test/resources/test-verbnet",
+                new XmlLoadOptions().internStrings(false));
+        assertTrue(verbNet.footprint().duplicateStrings() < uninterned.footprint().duplicateStrings());
+    }
+
+    @Test
+    public void testLoad$CompressedExamples() {
+        for (int cacheSize : new int[]{0, 1}) {
+            VnIndex compressed = DefaultVnIndex.fromDirectory("src/test/resources/test-verbnet",
+                    new XmlLoadOptions().compressExamples(true).exampleCacheSize(cacheSize));
+            assertEquals(verbNet.fingerprints().index(), compressed.fingerprints().index());
+            for (VnClass cls : verbNet.roots()) {
+                for (VnClass descendant : cls.descendants(true)) {
+                    List<VnFrame> expected = descendant.frames();
+                    List<VnFrame> actual = compressed.getById(descendant.verbNetId().toString()).frames();
+                    for (int i = 0; i < expected.size(); ++i) {
+                        assertEquals(expected.get(i).examples(), actual.get(i).examples());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testAllClasses() {
+        List<VnClass> expected = verbNet.roots().stream()
+                .flatMap(root -> root.descendants(true).stream())
+                .collect(Collectors.toList());
+        assertEquals(expected, verbNet.allClasses().collect(Collectors.toList()));
+        assertEquals(expected, verbNet.allClasses().parallel().collect(Collectors.toList()));
+        Spliterator<VnClass> spliterator = verbNet.allClasses().spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE));
+        assertEquals(5, spliterator.getExactSizeIfKnown());
+    }
+
+    @Test
+    public void testAllMembersAndFrames() {
+        long members = 0;
+        long frames = 0;
+        for (VnClass root : verbNet.roots()) {
+            for (VnClass cls : root.descendants(true)) {
+                members += cls.members().size();
+                frames += cls.frames().size();
+            }
+        }
+        assertEquals(members, verbNet.allMembers().parallel().count());
+        assertEquals(frames, verbNet.allFrames().parallel().count());
+        assertEquals(verbNet.allMembers().collect(Collectors.toList()),
+                verbNet.allMembers().parallel().collect(Collectors.toList()));
+    }
+
 }
@@ -0,0 +1,96 @@
+package io.github.semlink.verbnet.diff;
+
+import org.junit.Test;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import io.github.semlink.verbnet.DefaultVnIndex;
+import io.github.semlink.verbnet.VnClass;
+import io.github.semlink.verbnet.VnIndex;
+import io.github.semlink.verbnet.WnKey;
+import io.github.semlink.verbnet.xml.SelectionalRestrictionsXml;
+import io.github.semlink.verbnet.xml.VerbNetXmlFactory;
+import io.github.semlink.verbnet.xml.VnClassXml;
+import io.github.semlink.verbnet.xml.VnMemberXml;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * {@link VnDiff} unit tests.
+ *
+ * @author jgung
+ */
+public class VnDiffTest {
+
+    private static List<VnClass> load() {
+        return VerbNetXmlFactory.readFromDirectory(Paths.get("src/test/resources/test-verbnet"));
+    }
+
+    @Test
+    public void testDiff$Identical() {
+        VnIndex before = new DefaultVnIndex(load());
+        VnIndex after = new DefaultVnIndex(load());
+        assertEquals(before.fingerprints().index(), after.fingerprints().index());
+        assertTrue(VnDiff.diff(before, after).isEmpty());
+    }
+
+    @Test
+    public void testDiff() {
+        VnIndex before = new DefaultVnIndex(load());
+        List<VnClass> classes = load();
+        VnClassXml begin = (VnClassXml) classes.get(0);
+        VnClassXml calibratable = (VnClassXml) classes.get(1).subclasses().get(0);
+
+        VnMemberXml climb = calibratable.memberElements().stream()
+                .filter(member -> member.name().equals("climb"))
+                .findFirst()
+                .orElseThrow(IllegalStateException::new);
+        calibratable.memberElements().remove(climb);
+        begin.memberElements().add(climb);
+        begin.thematicRoles().get(0).selectionalRestrictions(new SelectionalRestrictionsXml());
+        begin.frameElements().remove(0);
+
+        VnIndex after = new DefaultVnIndex(classes);
+        assertNotEquals(before.fingerprints().index(), after.fingerprints().index());
+        // fingerprints of unchanged content are equal across indices
+        assertEquals(before.fingerprints().frame(before.getById("45.6.1").frames().get(0)),
+                after.fingerprints().frame(after.getById("45.6.1").frames().get(0)));
+        assertNotEquals(before.fingerprints().subtree(before.getById("45.6.1")),
+                after.fingerprints().subtree(after.getById("45.6.1")));
+
+        List<String> changes = VnDiff.diff(before, after).stream()
+                .map(VnChange::toString)
+                .collect(Collectors.toList());
+        assertEquals(3, changes.size());
+        assertTrue(changes.contains("RESTRICTIONS_CHANGED Agent: begin-55.1"));
+        assertTrue(changes.contains("FRAME_REMOVED " + before.getById("55.1").frames().get(0).description().primary()
+                + ": begin-55.1"));
+        assertTrue(changes.contains("MEMBER_MOVED climb: calibratable_cos-45.6.1-1 -> begin-55.1"));
+    }
+
+    @Test
+    public void testDiff$WordNetUncertainty() {
+        VnIndex before = new DefaultVnIndex(load());
+        List<VnClass> classes = load();
+        VnMemberXml member = ((VnClassXml) classes.get(0)).memberElements().get(0);
+        List<WnKey> keys = new ArrayList<>();
+        for (WnKey key : member.wn()) {
+            keys.add(new WnKey(key.lemma(), key.type(), key.lexicalFileNumber(), key.lexicalId(), !key.uncertain()));
+        }
+        member.wn(keys);
+
+        VnIndex after = new DefaultVnIndex(classes);
+        assertNotEquals(before.fingerprints().index(), after.fingerprints().index());
+        List<String> changes = VnDiff.diff(before, after).stream()
+                .map(VnChange::toString)
+                .collect(Collectors.toList());
+        assertEquals(1, changes.size());
+        assertTrue(changes.contains("WORDNET_KEYS_CHANGED " + member.name() + ": begin-55.1"));
+    }
+
+}
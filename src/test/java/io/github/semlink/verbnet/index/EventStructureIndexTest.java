@@ -0,0 +1,106 @@
+package io.github.semlink.verbnet.index;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import io.github.semlink.verbnet.DefaultVnIndex;
+import io.github.semlink.verbnet.VnFrame;
+import io.github.semlink.verbnet.VnIndex;
+import io.github.semlink.verbnet.semantics.CompiledArgument;
+import io.github.semlink.verbnet.semantics.SubeventGraph;
+import io.github.semlink.verbnet.semantics.VnArgumentKind;
+import io.github.semlink.verbnet.semantics.VnSemanticArgument;
+import io.github.semlink.verbnet.xml.util.ArgumentTable;
+import io.github.semlink.verbnet.xml.util.StringTable;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link EventStructureIndex} and {@link CompiledArgument}.
+ *
+ * @author jgung
+ */
+public class EventStructureIndexTest {
+
+    private static VnIndex verbNet;
+    private static EventStructureIndex index;
+
+    @BeforeClass
+    public static void init() {
+        verbNet = DefaultVnIndex.fromDirectory("src/test/resources/test-verbnet");
+        index = verbNet.eventStructureIndex();
+    }
+
+    @Test
+    public void testCompiledArguments() {
+        CompiledArgument role = CompiledArgument.compile("ThemRole", "?Agent");
+        assertEquals(VnArgumentKind.THEMATIC_ROLE, role.kind());
+        assertEquals("Agent", role.reference());
+        assertTrue(role.optional());
+        assertFalse(role.isEvent());
+        ArgumentTable table = new ArgumentTable(new StringTable()::intern);
+        assertSame(table.compile("ThemRole", "?Agent"), table.compile("ThemRole", "?Agent"));
+        assertSame(table.compile("ThemRole", "?Agent").reference(), table.compile("ThemRole", "Agent").reference());
+
+        assertEquals(0, CompiledArgument.compile("Event", "E").subevent());
+        assertEquals(1, CompiledArgument.compile("Event", "e1").subevent());
+        CompiledArgument marked = CompiledArgument.compile("Event", "\u00EB2");
+        assertEquals(2, marked.subevent());
+        assertTrue(marked.marked());
+        CompiledArgument phased = CompiledArgument.compile("Event", "during(E)");
+        assertEquals(CompiledArgument.WHOLE_EVENT, phased.subevent());
+        assertEquals("during", phased.phase());
+        assertEquals(CompiledArgument.NO_SUBEVENT, CompiledArgument.compile("Event", "ex").subevent());
+
+        assertEquals(VnArgumentKind.VERB_SPECIFIC, CompiledArgument.compile("VerbSpecific", "V_Direction").kind());
+        assertEquals(VnArgumentKind.OTHER, CompiledArgument.compile("Unknown", "x").kind());
+    }
+
+    @Test
+    public void testCompiledArguments$SharedWithinLoad() {
+        VnFrame first = verbNet.getById("45.6.1").frames().get(0);
+        VnFrame second = verbNet.getById("45.6.1").frames().get(1);
+        VnSemanticArgument patient = first.predicates().get(0).semanticArguments().get(1);
+        VnSemanticArgument other = second.predicates().get(0).semanticArguments().get(1);
+        assertEquals("Patient", patient.value());
+        assertEquals("Patient", other.value());
+        assertSame(patient.compiled(), other.compiled());
+    }
+
+    @Test
+    public void testGraph() {
+        VnFrame frame = verbNet.getById("45.6.1").frames().get(0);
+        SubeventGraph graph = index.graph(frame);
+        assertNotNull(graph);
+        assertArrayEquals(new int[]{1, 2, 3}, graph.subevents());
+        assertTrue(graph.contains(CompiledArgument.WHOLE_EVENT));
+        assertTrue(graph.precedes(2, 3));
+        assertFalse(graph.precedes(3, 2));
+        assertFalse(graph.precedes(1, 2));
+        assertArrayEquals(new int[]{3}, graph.successors(2));
+        assertArrayEquals(new int[]{1, 2, 3}, graph.order());
+        assertArrayEquals(new int[]{1, 3}, graph.predicates(2));
+        assertFalse(graph.cyclic());
+        assertEquals("[e2 < e3]", graph.toString());
+    }
+
+    @Test
+    public void testFramesWhere() {
+        List<VnFrame> frames = index.framesWhere(2, 3);
+        assertFalse(frames.isEmpty());
+        for (VnFrame frame : frames) {
+            assertTrue(index.graph(frame).precedes(2, 3));
+        }
+        assertTrue(index.framesWhere(3, 2).isEmpty());
+        assertTrue(Arrays.stream(index.graph(0).subevents()).allMatch(subevent -> subevent > 0));
+    }
+
+}
@@ -0,0 +1,71 @@
+package io.github.semlink.verbnet.index;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import io.github.semlink.verbnet.DefaultVnIndex;
+import io.github.semlink.verbnet.VnIndex;
+import io.github.semlink.verbnet.VnIndexOptions;
+import io.github.semlink.verbnet.xml.XmlLoadOptions;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link ExampleIndex}.
+ *
+ * @author jgung
+ */
+public class ExampleIndexTest {
+
+    private static VnIndex verbNet;
+
+    @BeforeClass
+    public static void init() {
+        verbNet = DefaultVnIndex.fromDirectory("src/test/resources/test-verbnet", new XmlLoadOptions(),
+                new VnIndexOptions().indexExamples(true));
+    }
+
+    private static List<String> examples(List<ExampleMatch> matches) {
+        return matches.stream().map(ExampleMatch::example).collect(Collectors.toList());
+    }
+
+    @Test
+    public void testPhrase() {
+        List<ExampleMatch> matches = verbNet.exampleIndex().phrase("the PRICE of oil");
+        assertEquals(Arrays.asList("The price of oil soared.",
+                "The price of oil rose 565% from $26 to $147.",
+                "The price of oil rose by 565% from $26 to $147."), examples(matches));
+        assertEquals("calibratable_cos-45.6.1", matches.get(0).verbClass().verbNetId().toString());
+        assertEquals("calibratable_cos-45.6.1-1", matches.get(1).verbClass().verbNetId().toString());
+    }
+
+    @Test
+    public void testPhrase$NoMatch() {
+        assertTrue(verbNet.exampleIndex().phrase("oil the").isEmpty());
+        assertTrue(verbNet.exampleIndex().phrase("unseen").isEmpty());
+        assertTrue(verbNet.exampleIndex().phrase("...").isEmpty());
+    }
+
+    @Test
+    public void testPrefix() {
+        assertEquals(Arrays.asList("bang", "began", "book", "by"), verbNet.exampleIndex().terms("B"));
+        List<ExampleMatch> matches = verbNet.exampleIndex().prefix("soar");
+        assertEquals(Arrays.asList("The price of oil soared.", "Oil soared in price."), examples(matches));
+    }
+
+    @Test
+    public void testMatchLocation() {
+        for (ExampleMatch match : verbNet.exampleIndex().prefix("")) {
+            assertSame(match.frame(), match.verbClass().frames().get(match.frameIndex()));
+        }
+        assertEquals(16, verbNet.exampleIndex().size());
+        assertSame(verbNet.exampleIndex(), verbNet.exampleIndex());
+    }
+
+}
@@ -0,0 +1,98 @@
+package io.github.semlink.verbnet.index;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import io.github.semlink.verbnet.DefaultVnIndex;
+import io.github.semlink.verbnet.VnClass;
+import io.github.semlink.verbnet.VnFrame;
+import io.github.semlink.verbnet.VnIndex;
+import io.github.semlink.verbnet.VnIndexOptions;
+import io.github.semlink.verbnet.semantics.VnSemanticPredicate;
+import io.github.semlink.verbnet.syntax.VnNounPhrase;
+import io.github.semlink.verbnet.syntax.VnPrep;
+import io.github.semlink.verbnet.syntax.VnSyntax;
+import io.github.semlink.verbnet.xml.XmlLoadOptions;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link FrameFeatureIndex}.
+ *
+ * @author jgung
+ */
+public class FrameFeatureIndexTest {
+
+    private static VnIndex verbNet;
+    private static FrameFeatureIndex index;
+
+    @BeforeClass
+    public static void init() {
+        verbNet = DefaultVnIndex.fromDirectory("src/test/resources/test-verbnet", new XmlLoadOptions(),
+                new VnIndexOptions().indexFrameFeatures(true));
+        index = verbNet.frameFeatureIndex();
+    }
+
+    private static List<VnFrame> scan(FrameFeature feature, String key) {
+        List<VnFrame> result = new ArrayList<>();
+        for (int i = 0; i < index.ordinals().frameCount(); ++i) {
+            VnFrame frame = index.ordinals().frame(i);
+            boolean matches = false;
+            for (VnSyntax syntax : frame.syntax()) {
+                if (feature == FrameFeature.ROLE && syntax instanceof VnNounPhrase) {
+                    matches |= key.equals(((VnNounPhrase) syntax).thematicRole());
+                } else if (feature == FrameFeature.PREPOSITION && syntax instanceof VnPrep) {
+                    matches |= ((VnPrep) syntax).types().contains(key);
+                }
+            }
+            for (VnSemanticPredicate predicate : frame.predicates()) {
+                matches |= feature == FrameFeature.PREDICATE && key.equals(predicate.type());
+            }
+            if (matches) {
+                result.add(frame);
+            }
+        }
+        return result;
+    }
+
+    @Test
+    public void testMatchesScan() {
+        for (FrameFeature feature : new FrameFeature[]{FrameFeature.ROLE, FrameFeature.PREDICATE,
+                FrameFeature.PREPOSITION}) {
+            assertTrue(index.keys(feature).size() > 0);
+            for (String key : index.keys(feature)) {
+                List<VnFrame> expected = scan(feature, key);
+                assertEquals(expected, index.frames(feature, key));
+                assertEquals(expected.size(), index.count(feature, key));
+            }
+        }
+    }
+
+    @Test
+    public void testRestrictions() {
+        // Agent restrictions are declared on the root class and inherited by its subclasses
+        List<VnFrame> animate = index.frames(FrameFeature.SELECTIONAL_RESTRICTION, "animate");
+        assertEquals(animate, index.frames(FrameFeature.SELECTIONAL_RESTRICTION, "-region"));
+        assertEquals(animate, index.frames(FrameFeature.ROLE, "Agent"));
+        assertTrue(index.frames(FrameFeature.SELECTIONAL_RESTRICTION, "-animate").isEmpty());
+
+        VnClass begin = verbNet.getById("begin-55.1");
+        List<VnFrame> frames = index.frames(FrameFeature.SYNTACTIC_RESTRICTION, "+sc_to_inf");
+        assertEquals(1, frames.size());
+        assertSame(begin, frames.get(0).verbClass());
+    }
+
+    @Test
+    public void testMissingKey() {
+        assertEquals(0, index.count(FrameFeature.PREPOSITION, "unseen"));
+        assertEquals(Collections.emptyList(), index.frames(FrameFeature.ROLE, "unseen"));
+        assertSame(index, verbNet.frameFeatureIndex());
+    }
+
+}
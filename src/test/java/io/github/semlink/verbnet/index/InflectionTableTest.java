@@ -0,0 +1,62 @@
+package io.github.semlink.verbnet.index;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import io.github.semlink.verbnet.DefaultVnIndex;
+import io.github.semlink.verbnet.VnIndex;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link InflectionTable}.
+ *
+ * @author jgung
+ */
+public class InflectionTableTest {
+
+    private static VnIndex verbNet;
+    private static InflectionTable table;
+
+    @BeforeClass
+    public static void init() {
+        verbNet = DefaultVnIndex.fromDirectory("src/test/resources/test-verbnet");
+        table = verbNet.inflectionTable();
+    }
+
+    @Test
+    public void testInflect() {
+        assertEquals(Arrays.asList("dips", "dipped", "dipping"), InflectionTable.inflect("dip"));
+        assertEquals(Arrays.asList("dies", "died", "dying"), InflectionTable.inflect("die"));
+        assertEquals(Arrays.asList("explodes", "exploded", "exploding"), InflectionTable.inflect("explode"));
+        assertEquals(Arrays.asList("multiplies", "multiplied", "multiplying"), InflectionTable.inflect("multiply"));
+        assertEquals(Arrays.asList("seesaws", "seesawed", "seesawing"), InflectionTable.inflect("seesaw"));
+        assertEquals(Arrays.asList("skyrockets", "skyrocketed", "skyrocketing"), InflectionTable.inflect("skyrocket"));
+        assertEquals(Arrays.asList("reaches", "reached", "reaching"), InflectionTable.inflect("reach"));
+    }
+
+    @Test
+    public void testLemmas() {
+        assertEquals(Collections.singletonList("climb"), table.lemmas("climbs"));
+        assertEquals(Collections.singletonList("climb"), table.lemmas("climb"));
+        assertEquals(Collections.singletonList("slip"), table.lemmas("Slipped"));
+        assertEquals(Collections.singletonList("go"), table.lemmas("went"));
+        assertEquals(Collections.singletonList("go"), table.lemmas("went_up"));
+        assertEquals(Collections.singletonList("rise"), table.lemmas("rose"));
+        assertEquals(Collections.singletonList("swell"), table.lemmas("swollen"));
+        assertTrue(table.lemmas("goed").isEmpty());
+        assertTrue(table.lemmas("walked").isEmpty());
+    }
+
+    @Test
+    public void testGetBySurfaceForm() {
+        assertEquals(verbNet.getByLemma("fall"), verbNet.getBySurfaceForm("fell"));
+        assertEquals(verbNet.getByLemma("begin"), verbNet.getBySurfaceForm("beginning"));
+        assertTrue(verbNet.getBySurfaceForm("unknown").isEmpty());
+    }
+
+}
@@ -0,0 +1,65 @@
+package io.github.semlink.verbnet.index;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import io.github.semlink.verbnet.DefaultVnIndex;
+import io.github.semlink.verbnet.VnIndex;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link LemmaTrie}.
+ *
+ * @author jgung
+ */
+public class LemmaTrieTest {
+
+    private static VnIndex verbNet;
+    private static LemmaTrie trie;
+
+    @BeforeClass
+    public static void init() {
+        verbNet = DefaultVnIndex.fromDirectory("src/test/resources/test-verbnet");
+        trie = verbNet.lemmaTrie();
+    }
+
+    private static String lemmas(List<LemmaMatch> matches) {
+        return matches.stream().map(LemmaMatch::toString).collect(Collectors.joining(" "));
+    }
+
+    @Test
+    public void testGet() {
+        assertEquals(verbNet.getMembersByLemma("go"), trie.get("go").members());
+        assertEquals(verbNet.getByLemma("go"), trie.get("go").classes());
+        assertEquals(1, trie.get("Go On").members().size());
+        assertEquals("go_on", trie.get("go on").members().iterator().next().name());
+        assertNull(trie.get("g"));
+    }
+
+    @Test
+    public void testPrefix() {
+        assertEquals("go go_down go_on go_up", lemmas(trie.prefix("go")));
+        assertEquals("go_down go_on", lemmas(trie.prefix("go_", 2)));
+        assertEquals("fall fall_away fall_off", lemmas(trie.prefix("fal")));
+        assertTrue(trie.prefix("xyz").isEmpty());
+        assertEquals(trie.size(), trie.prefix("").size());
+    }
+
+    @Test
+    public void testFuzzy() {
+        assertEquals("climb", lemmas(trie.fuzzy("climb", 0)));
+        assertEquals("climb (1)", lemmas(trie.fuzzy("clmb", 1)));
+        assertEquals("skyrocket (1)", lemmas(trie.fuzzy("skyroket", 1)));
+        assertEquals("plummet (1)", lemmas(trie.fuzzy("plumet", 1)));
+        assertEquals("dip die (1)", lemmas(trie.fuzzy("dip", 1)));
+        assertEquals("go_on (1)", lemmas(trie.fuzzy("go-on", 1)));
+        assertTrue(trie.fuzzy("zzzz", 2).isEmpty());
+    }
+
+}
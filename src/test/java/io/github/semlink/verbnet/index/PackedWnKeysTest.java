@@ -0,0 +1,67 @@
+package io.github.semlink.verbnet.index;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import io.github.semlink.verbnet.DefaultVnIndex;
+import io.github.semlink.verbnet.VnIndex;
+import io.github.semlink.verbnet.WnKey;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link PackedWnKeys}.
+ *
+ * @author jgung
+ */
+public class PackedWnKeysTest {
+
+    private static VnIndex verbNet;
+    private static PackedWnKeys packedKeys;
+
+    @BeforeClass
+    public static void init() {
+        verbNet = DefaultVnIndex.fromDirectory("src/test/resources/test-verbnet");
+        packedKeys = new PackedWnKeys(verbNet.getWordNetKeysByLemma("climb"));
+    }
+
+    private static WnKey key(String senseKey) {
+        return WnKey.parseWordNetKey(senseKey).orElseThrow(IllegalArgumentException::new);
+    }
+
+    @Test
+    public void testRoundTrip() {
+        WnKey climb = key("climb%2:38:01");
+        long packed = packedKeys.pack(climb);
+        assertEquals(climb, packedKeys.unpack(packed));
+        assertEquals("climb", packedKeys.lemma(packed));
+        assertEquals(WnKey.SynsetType.VERB, PackedWnKeys.type(packed));
+        assertEquals(38, PackedWnKeys.lexicalFileNumber(packed));
+        assertEquals(1, PackedWnKeys.lexicalId(packed));
+    }
+
+    @Test
+    public void testSenseKeys() {
+        long packed = packedKeys.pack(key("climb%2:38:01"));
+        assertEquals(packed, packedKeys.pack("climb%2:38:01"));
+        assertEquals(packed, packedKeys.pack("climb%2:38:01::"));
+        assertEquals(packed, packedKeys.pack(" ?climb%2:38:01 "));
+        assertEquals(packed, packedKeys.pack("climb%2:38:01:ascend:00"));
+        assertEquals(PackedWnKeys.NONE, packedKeys.pack("rise%2:38:01"));
+        assertEquals(PackedWnKeys.NONE, packedKeys.pack("climb%2:38"));
+        assertEquals(PackedWnKeys.NONE, packedKeys.pack("climb%0:38:01"));
+        assertEquals(PackedWnKeys.NONE, packedKeys.pack("climb%2:x:01"));
+        assertTrue(packedKeys.pack("climb%2:30:01") < packed);
+    }
+
+    @Test
+    public void testGetMembersByWordNetKey() {
+        assertEquals(verbNet.getMembersByWordNetKey(key("climb%2:38:01")),
+                verbNet.getMembersByWordNetKey("climb%2:38:01::"));
+        assertEquals("climb", verbNet.getMembersByWordNetKey("climb%2:38:01").iterator().next().name());
+        assertTrue(verbNet.getMembersByWordNetKey("climb%2:38:09").isEmpty());
+        assertTrue(verbNet.getMembersByWordNetKey("not a key").isEmpty());
+    }
+
+}
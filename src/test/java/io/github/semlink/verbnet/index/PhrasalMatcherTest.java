@@ -0,0 +1,75 @@
+package io.github.semlink.verbnet.index;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import io.github.semlink.verbnet.DefaultVnIndex;
+import io.github.semlink.verbnet.VnIndex;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link PhrasalMatcher}.
+ *
+ * @author jgung
+ */
+public class PhrasalMatcherTest {
+
+    private static VnIndex verbNet;
+    private static PhrasalMatcher matcher;
+
+    @BeforeClass
+    public static void init() {
+        verbNet = DefaultVnIndex.fromDirectory("src/test/resources/test-verbnet");
+        matcher = verbNet.phrasalMatcher();
+    }
+
+    private static List<PhrasalMatch> match(String sentence) {
+        return matcher.match(Arrays.asList(sentence.split(" ")));
+    }
+
+    @Test
+    public void testSize() {
+        assertEquals(8, matcher.size());
+    }
+
+    @Test
+    public void testMatch() {
+        List<PhrasalMatch> matches = match("price go up and then fall off after they set out");
+        assertEquals("[go_up [1, 3), fall_off [5, 7), set_out [9, 11)]", matches.toString());
+        assertEquals(verbNet.getById("45.6.1-1"), matches.get(0).classes().iterator().next());
+        assertEquals("go_up", matches.get(0).members().iterator().next().name());
+    }
+
+    @Test
+    public void testCaseAndBoundaries() {
+        assertEquals("[go_on [0, 2)]", match("Go On").toString());
+        assertEquals("[go_down [1, 3)]", match("go go down go").toString());
+        assertTrue(match("go").isEmpty());
+        assertTrue(match("on go").isEmpty());
+    }
+
+    @Test
+    public void testSpellingVariants() {
+        String xml = "<VERBNET>"
+                + "<VNCLASS ID=\"test-1.1\"><MEMBERS><MEMBER name=\"go_on\" wn=\"\" grouping=\"\"/></MEMBERS>"
+                + "<THEMROLES/><FRAMES/><SUBCLASSES/></VNCLASS>"
+                + "<VNCLASS ID=\"test-2.1\"><MEMBERS><MEMBER name=\"go on\" wn=\"\" grouping=\"\"/></MEMBERS>"
+                + "<THEMROLES/><FRAMES/><SUBCLASSES/></VNCLASS>"
+                + "</VERBNET>";
+        VnIndex index = DefaultVnIndex.fromInputStream(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+        PhrasalMatcher variants = index.phrasalMatcher();
+        assertEquals(1, variants.size());
+        List<PhrasalMatch> matches = variants.match(Arrays.asList("go", "on"));
+        assertEquals("[go_on [0, 2)]", matches.toString());
+        assertEquals(2, matches.get(0).members().size());
+        assertEquals(2, matches.get(0).classes().size());
+    }
+
+}
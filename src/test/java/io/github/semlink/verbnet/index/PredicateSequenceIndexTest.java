@@ -0,0 +1,106 @@
+package io.github.semlink.verbnet.index;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.github.semlink.verbnet.DefaultVnIndex;
+import io.github.semlink.verbnet.VnFrame;
+import io.github.semlink.verbnet.VnIndex;
+import io.github.semlink.verbnet.semantics.VnPredicatePolarity;
+import io.github.semlink.verbnet.semantics.VnSemanticPredicate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link PredicateSequenceIndex}.
+ *
+ * @author jgung
+ */
+public class PredicateSequenceIndexTest {
+
+    private static VnIndex verbNet;
+    private static PredicateSequenceIndex index;
+
+    @BeforeClass
+    public static void init() {
+        verbNet = DefaultVnIndex.fromDirectory("src/test/resources/test-verbnet");
+        index = verbNet.predicateSequenceIndex();
+    }
+
+    private static List<VnFrame> scanSubsequence(String... types) {
+        List<VnFrame> result = new ArrayList<>();
+        for (int f = 0; f < verbNet.ordinals().frameCount(); ++f) {
+            VnFrame frame = verbNet.ordinals().frame(f);
+            int step = 0;
+            for (VnSemanticPredicate predicate : frame.predicates()) {
+                if (step < types.length && predicate.type().equals(types[step])) {
+                    step++;
+                }
+            }
+            if (step == types.length) {
+                result.add(frame);
+            }
+        }
+        return result;
+    }
+
+    private static int scanNgrams(String... types) {
+        int count = 0;
+        for (int f = 0; f < verbNet.ordinals().frameCount(); ++f) {
+            List<VnSemanticPredicate> predicates = verbNet.ordinals().frame(f).predicates();
+            for (int start = 0; start + types.length <= predicates.size(); ++start) {
+                boolean match = true;
+                for (int i = 0; i < types.length && match; ++i) {
+                    match = predicates.get(start + i).type().equals(types[i]);
+                }
+                count += match ? 1 : 0;
+            }
+        }
+        return count;
+    }
+
+    @Test
+    public void testSubsequence() {
+        List<VnFrame> expected = scanSubsequence("has_val", "cause", "has_property");
+        assertTrue(expected.size() > 0);
+        List<PredicateMatch> matches = index.subsequence("has_val", "cause", "has_property");
+        assertEquals(expected.size(), matches.size());
+        for (int i = 0; i < matches.size(); ++i) {
+            assertSame(expected.get(i), matches.get(i).frame());
+            List<VnSemanticPredicate> predicates = matches.get(i).frame().predicates();
+            assertEquals("cause", predicates.get(matches.get(i).positions().get(1)).type());
+        }
+        assertTrue(index.subsequence("has_property", "has_val", "cause", "has_property").isEmpty());
+        assertTrue(index.subsequence("unseen").isEmpty());
+    }
+
+    @Test
+    public void testNgram() {
+        for (List<String> types : Arrays.asList(Arrays.asList("has_val"), Arrays.asList("has_val", "change_value"),
+                Arrays.asList("has_val", "cause", "has_property"), Arrays.asList("cause", "has_val"))) {
+            String[] query = types.toArray(new String[0]);
+            assertEquals(scanNgrams(query), index.ngram(query).size());
+        }
+        PredicateMatch match = index.ngram("has_val", "change_value").get(0);
+        assertEquals(Arrays.asList(0, 1), match.positions());
+    }
+
+    @Test
+    public void testConstraints() {
+        int all = index.ngram("has_val", "change_value").size();
+        assertEquals(all, index.ngram(new PredicateStep("has_val").polarity(VnPredicatePolarity.TRUE),
+                new PredicateStep("change_value")).size());
+        assertTrue(index.ngram(new PredicateStep("has_val").polarity(VnPredicatePolarity.FALSE),
+                new PredicateStep("change_value")).isEmpty());
+        assertEquals(all, index.ngram(new PredicateStep("has_val").argument("Patient"),
+                new PredicateStep("change_value")).size());
+        assertTrue(index.subsequence(new PredicateStep("cause").argument("unseen")).isEmpty());
+    }
+
+}
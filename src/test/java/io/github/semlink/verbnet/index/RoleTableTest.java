@@ -0,0 +1,91 @@
+package io.github.semlink.verbnet.index;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.stream.Collectors;
+
+import io.github.semlink.verbnet.DefaultVnIndex;
+import io.github.semlink.verbnet.VnClass;
+import io.github.semlink.verbnet.VnIndex;
+import io.github.semlink.verbnet.restrictions.VnRestrictions;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Unit tests for {@link RoleTable}.
+ *
+ * @author jgung
+ */
+public class RoleTableTest {
+
+    private static final String XML = "<VERBNET>"
+            + "<VNCLASS ID=\"test-1.1\"><MEMBERS/><THEMROLES>"
+            + "<THEMROLE type=\"Agent\"><SELRESTRS logic=\"or\">"
+            + "<SELRESTR Value=\"+\" type=\"animate\"/><SELRESTR Value=\"+\" type=\"organization\"/>"
+            + "<SELRESTR Value=\"+\" type=\"animate\"/></SELRESTRS></THEMROLE>"
+            + "<THEMROLE type=\"Theme\"><SELRESTRS/></THEMROLE>"
+            + "</THEMROLES><FRAMES/><SUBCLASSES>"
+            + "<VNSUBCLASS ID=\"test-1.1-1\"><MEMBERS/><THEMROLES>"
+            + "<THEMROLE type=\"Agent\"><SELRESTRS><SELRESTR Value=\"+\" type=\"human\"/></SELRESTRS></THEMROLE>"
+            + "<THEMROLE type=\"Instrument\"><SELRESTRS/></THEMROLE>"
+            + "</THEMROLES><FRAMES/><SUBCLASSES>"
+            + "<VNSUBCLASS ID=\"test-1.1-1-1\"><MEMBERS/><THEMROLES>"
+            + "<THEMROLE type=\"Agent\"><SELRESTRS/></THEMROLE>"
+            + "</THEMROLES><FRAMES/><SUBCLASSES/></VNSUBCLASS>"
+            + "</SUBCLASSES></VNSUBCLASS>"
+            + "</SUBCLASSES></VNCLASS></VERBNET>";
+
+    private static VnIndex verbNet;
+    private static RoleTable table;
+
+    @BeforeClass
+    public static void init() {
+        verbNet = DefaultVnIndex.fromInputStream(new ByteArrayInputStream(XML.getBytes(StandardCharsets.UTF_8)));
+        table = verbNet.roleTable();
+    }
+
+    private static String restrictions(EffectiveRole role) {
+        return role.restrictions().stream()
+                .map(VnRestrictions::include)
+                .map(include -> String.join("&", include))
+                .collect(Collectors.joining("|"));
+    }
+
+    @Test
+    public void testRootRoles() {
+        VnClass root = verbNet.getById("1.1");
+        EffectiveRole agent = verbNet.effectiveRole(root, "Agent");
+        assertSame(root, agent.declaringClass());
+        assertEquals("animate|organization", restrictions(agent));
+        assertEquals(Collections.emptyList(), table.effectiveRole(root, "Theme").restrictions());
+        assertNull(table.effectiveRole(root, "Instrument"));
+    }
+
+    @Test
+    public void testOverrides() {
+        VnClass subclass = verbNet.getById("1.1-1");
+        EffectiveRole agent = table.effectiveRole(subclass, "Agent");
+        assertSame(subclass, agent.declaringClass());
+        assertEquals("human", restrictions(agent));
+        assertSame(verbNet.getById("1.1"), table.effectiveRole(subclass, "Theme").declaringClass());
+        assertEquals("Agent Theme Instrument", table.effectiveRoles(subclass).stream()
+                .map(EffectiveRole::type)
+                .collect(Collectors.joining(" ")));
+    }
+
+    @Test
+    public void testUnrestrictedRedeclaration() {
+        VnClass leaf = verbNet.getById("1.1-1-1");
+        EffectiveRole agent = table.effectiveRole(leaf, "Agent");
+        assertSame(leaf, agent.declaringClass());
+        assertEquals("human", restrictions(agent));
+        assertEquals(3, table.effectiveRoles(leaf).size());
+    }
+
+}
@@ -0,0 +1,76 @@
+package io.github.semlink.verbnet.index;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.github.semlink.verbnet.DefaultVnIndex;
+import io.github.semlink.verbnet.VnFrame;
+import io.github.semlink.verbnet.VnIndex;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link SyntaxPatternIndex}.
+ *
+ * @author jgung
+ */
+public class SyntaxPatternIndexTest {
+
+    private static VnIndex verbNet;
+    private static SyntaxPatternIndex index;
+
+    @BeforeClass
+    public static void init() {
+        verbNet = DefaultVnIndex.fromDirectory("src/test/resources/test-verbnet");
+        index = verbNet.syntaxPatternIndex();
+    }
+
+    @Test
+    public void testMatchesSyntaxKey() {
+        List<VnFrame> expected = new ArrayList<>();
+        for (int i = 0; i < verbNet.ordinals().frameCount(); ++i) {
+            VnFrame frame = verbNet.ordinals().frame(i);
+            if (FrameFeatureIndex.syntaxKey(frame.syntax()).equals("NP V NP")) {
+                expected.add(frame);
+            }
+        }
+        List<SyntaxMatch> matches = index.match("NP V NP");
+        assertEquals(expected.size(), matches.size());
+        for (int i = 0; i < matches.size(); ++i) {
+            assertSame(expected.get(i), matches.get(i).frame());
+        }
+    }
+
+    @Test
+    public void testRoleAssignment() {
+        List<SyntaxMatch> matches = index.match("NP V NP PP(with)");
+        assertTrue(matches.size() > 0);
+        for (SyntaxMatch match : matches) {
+            assertEquals(4, match.roles().size());
+            assertEquals(null, match.roles().get(1));
+        }
+        assertTrue(matches.stream().anyMatch(match ->
+                match.roles().equals(Arrays.asList("Agent", null, "Theme", "Instrument"))));
+        assertTrue(index.match("NP V NP PP(into)").isEmpty());
+        assertEquals(index.match("NP V NP PP(with)").size(), index.match("NP.agent VERB NP with NP").size());
+    }
+
+    @Test
+    public void testLemma() {
+        List<SyntaxMatch> all = index.match("NP V");
+        List<SyntaxMatch> begin = index.match("NP V", verbNet.getByLemma("begin"));
+        assertTrue(begin.size() > 0);
+        assertTrue(begin.size() < all.size());
+        for (SyntaxMatch match : begin) {
+            assertEquals("55.1", match.verbClass().verbNetId().rootId());
+        }
+        assertTrue(index.match("NP V", verbNet.getByLemma("unseen")).isEmpty());
+    }
+
+}
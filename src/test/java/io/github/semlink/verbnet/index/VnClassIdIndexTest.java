@@ -0,0 +1,74 @@
+package io.github.semlink.verbnet.index;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import io.github.semlink.verbnet.DefaultVnIndex;
+import io.github.semlink.verbnet.VnClass;
+import io.github.semlink.verbnet.VnIndex;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link VnClassIdIndex}.
+ *
+ * @author jgung
+ */
+public class VnClassIdIndexTest {
+
+    private static VnIndex verbNet;
+    private static VnClassIdIndex index;
+
+    @BeforeClass
+    public static void init() {
+        verbNet = DefaultVnIndex.fromDirectory("src/test/resources/test-verbnet");
+        index = verbNet.classIdIndex();
+    }
+
+    private static String ids(List<VnClass> classes) {
+        return classes.stream().map(cls -> cls.verbNetId().classId()).collect(Collectors.joining(" "));
+    }
+
+    @Test
+    public void testAll() {
+        assertEquals("45.6.1 45.6.1-1 55.1 55.1-1 55.1-1-1", ids(index.all()));
+    }
+
+    @Test
+    public void testPrefix() {
+        assertEquals("45.6.1 45.6.1-1", ids(verbNet.getByIdPrefix("45")));
+        assertEquals("45.6.1 45.6.1-1", ids(verbNet.getByIdPrefix("45.6")));
+        assertEquals("55.1-1 55.1-1-1", ids(verbNet.getByIdPrefix("begin-55.1-1")));
+        assertEquals("55.1-1-1", ids(verbNet.getByIdPrefix("55.1-1-1")));
+        assertTrue(verbNet.getByIdPrefix("4").isEmpty());
+        assertTrue(verbNet.getByIdPrefix("45.10").isEmpty());
+        assertTrue(verbNet.getByIdPrefix("not an id").isEmpty());
+    }
+
+    @Test
+    public void testRange() {
+        assertEquals("45.6.1 45.6.1-1", ids(verbNet.getByIdRange("45.4", "45.6")));
+        assertEquals("45.6.1 45.6.1-1 55.1", ids(verbNet.getByIdRange("45", "55.1-0")));
+        assertEquals("55.1-1 55.1-1-1", ids(verbNet.getByIdRange("55.1-1", "60")));
+        assertTrue(verbNet.getByIdRange("46", "54").isEmpty());
+        assertTrue(verbNet.getByIdRange("55", "45").isEmpty());
+    }
+
+    @Test
+    public void testNeighbors() {
+        assertEquals("45.6.1-1", index.floor("45.10").verbNetId().classId());
+        assertEquals("55.1", index.ceiling("45.10").verbNetId().classId());
+        assertEquals("55.1", index.floor("55.1").verbNetId().classId());
+        assertEquals("55.1", index.ceiling("55.1").verbNetId().classId());
+        assertEquals("45.6.1-1", index.lower("55.1").verbNetId().classId());
+        assertEquals("55.1-1", index.higher("55.1").verbNetId().classId());
+        assertNull(index.floor("45"));
+        assertNull(index.higher("55.1-1-1"));
+    }
+
+}
@@ -0,0 +1,68 @@
+package io.github.semlink.verbnet.index;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import io.github.semlink.verbnet.DefaultVnIndex;
+import io.github.semlink.verbnet.VnClass;
+import io.github.semlink.verbnet.VnIndex;
+import io.github.semlink.verbnet.VnMember;
+import io.github.semlink.verbnet.WnKey;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link WordNetIndex}.
+ *
+ * @author jgung
+ */
+public class WordNetIndexTest {
+
+    private static VnIndex verbNet;
+    private static WordNetIndex index;
+
+    @BeforeClass
+    public static void init() {
+        verbNet = DefaultVnIndex.fromDirectory("src/test/resources/test-verbnet");
+        index = verbNet.wordNetIndex();
+    }
+
+    @Test
+    public void testClasses() {
+        WnKey goOn = WnKey.parseWordNetKey("go_on%2:38:00").orElseThrow(IllegalArgumentException::new);
+        VnClass begin = verbNet.getById("55.1");
+        assertEquals(new HashSet<>(Arrays.asList(begin)), index.classes(goOn));
+        assertEquals(index.classes(goOn), index.classes("go_on%2:38:00::"));
+        assertEquals(new HashSet<>(begin.descendants(true)), index.classesIncludeInherited("go_on%2:38:00"));
+        assertEquals(verbNet.getById("45.6.1-1"), index.classes("climb%2:38:01").iterator().next());
+        assertTrue(index.classes("climb%2:38:09").isEmpty());
+    }
+
+    @Test
+    public void testLexicalFile() {
+        Set<VnMember> motion = index.membersByLexicalFile(38);
+        for (VnMember member : motion) {
+            assertTrue(member.wn().stream().anyMatch(key -> key.lexicalFileNumber() == 38));
+        }
+        Set<String> names = motion.stream().map(VnMember::name).collect(Collectors.toSet());
+        assertTrue(names.contains("climb"));
+        assertTrue(names.contains("go_on"));
+        assertTrue(index.membersByLexicalFile(1).isEmpty());
+    }
+
+    @Test
+    public void testTypeAndLemma() {
+        assertEquals(index.membersByType(WnKey.SynsetType.VERB).size(),
+                verbNet.roots().stream().flatMap(cls -> cls.descendants(true).stream())
+                        .flatMap(cls -> cls.members().stream()).filter(member -> !member.wn().isEmpty()).count());
+        assertTrue(index.membersByType(WnKey.SynsetType.NOUN).isEmpty());
+        assertEquals(verbNet.getByLemma("start"), index.classesByLemma("start"));
+    }
+
+}
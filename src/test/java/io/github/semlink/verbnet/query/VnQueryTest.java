@@ -0,0 +1,120 @@
+package io.github.semlink.verbnet.query;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import io.github.semlink.verbnet.DefaultVnIndex;
+import io.github.semlink.verbnet.VnClass;
+import io.github.semlink.verbnet.VnFrame;
+import io.github.semlink.verbnet.VnIndex;
+import io.github.semlink.verbnet.index.FrameFeatureIndex;
+import io.github.semlink.verbnet.semantics.VnSemanticPredicate;
+import io.github.semlink.verbnet.syntax.VnNounPhrase;
+import io.github.semlink.verbnet.syntax.VnSyntax;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link VnQuery}.
+ *
+ * @author jgung
+ */
+public class VnQueryTest {
+
+    private static VnIndex verbNet;
+
+    @BeforeClass
+    public static void init() {
+        verbNet = DefaultVnIndex.fromDirectory("src/test/resources/test-verbnet");
+    }
+
+    private static List<String> ids(List<VnClass> classes) {
+        return classes.stream().map(cls -> cls.verbNetId().toString()).sorted().collect(Collectors.toList());
+    }
+
+    @Test
+    public void testFrames() {
+        List<VnFrame> expected = new ArrayList<>();
+        for (VnClass root : verbNet.roots()) {
+            for (VnClass cls : root.descendants(true)) {
+                for (VnFrame frame : cls.frames()) {
+                    boolean agent = false;
+                    for (VnSyntax syntax : frame.syntax()) {
+                        agent |= syntax instanceof VnNounPhrase
+                                && ((VnNounPhrase) syntax).thematicRole().equals("Agent");
+                    }
+                    boolean cause = false;
+                    for (VnSemanticPredicate predicate : frame.predicates()) {
+                        cause |= predicate.type().equals("cause");
+                    }
+                    if (agent && cause && FrameFeatureIndex.syntaxKey(frame.syntax()).equals("NP V NP")) {
+                        expected.add(frame);
+                    }
+                }
+            }
+        }
+        assertTrue(expected.size() > 0);
+        List<VnFrame> frames = verbNet.query().frames()
+                .withRole("Agent")
+                .withPredicate("cause")
+                .withSyntax("np.agent v np")
+                .list();
+        assertEquals(expected.size(), frames.size());
+        for (int i = 0; i < frames.size(); ++i) {
+            assertSame(expected.get(i), frames.get(i));
+        }
+    }
+
+    @Test
+    public void testFrames$UnderId() {
+        assertEquals(verbNet.getById("begin-55.1-1").frames().size(),
+                verbNet.query().frames().inClass("55.1-1").count());
+        int count = verbNet.query().frames().underId("55.1").count();
+        int expected = 0;
+        for (VnClass cls : verbNet.getById("55.1").descendants(true)) {
+            expected += cls.frames().size();
+        }
+        assertEquals(expected, count);
+        assertEquals(0, verbNet.query().frames().underId("55.1").withPredicate("has_val").count());
+    }
+
+    @Test
+    public void testClasses() {
+        List<VnClass> classes = verbNet.query().classes()
+                .underId("45")
+                .withMemberFeature("fluctuate")
+                .list();
+        List<String> expected = new ArrayList<>();
+        for (VnClass cls : verbNet.getById("45.6.1").descendants(true)) {
+            if (cls.members().stream().anyMatch(member -> member.features().contains("fluctuate"))) {
+                expected.add(cls.verbNetId().toString());
+            }
+        }
+        assertTrue(expected.size() > 0);
+        assertEquals(expected.stream().sorted().collect(Collectors.toList()), ids(classes));
+        assertTrue(verbNet.query().classes().underId("4").list().isEmpty());
+    }
+
+    @Test
+    public void testPlan() {
+        QueryPlan plan = verbNet.query().frames()
+                .where("has examples", frame -> !frame.examples().isEmpty())
+                .withRole("Agent")
+                .withPreposition("unseen")
+                .plan();
+        assertEquals("seek PREPOSITION unseen (0)", plan.steps().get(0));
+        assertEquals("probe ROLE Agent", plan.steps().get(1));
+        assertEquals("test has examples", plan.steps().get(2));
+        assertEquals("scan all (" + verbNet.ordinals().classCount() + ")",
+                verbNet.query().classes().withRole("Agent").plan().steps().get(0));
+        assertEquals("seek member feature increase (2)",
+                verbNet.query().classes().withMemberFeature("increase").plan().steps().get(0));
+    }
+
+}